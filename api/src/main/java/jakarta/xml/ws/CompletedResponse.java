@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code Response} of an invocation which has already completed,
+ * used by the default batch methods of {@link Dispatch}.
+ *
+ * @param <T> The type of the response
+ */
+final class CompletedResponse<T> implements Response<T> {
+
+    private final T value;
+    private final Throwable failure;
+    private final Map<String, Object> context;
+
+    private CompletedResponse(T value, Throwable failure, Map<String, Object> context) {
+        this.value = value;
+        this.failure = failure;
+        this.context = context;
+    }
+
+    static <T> CompletedResponse<T> success(T value, Map<String, Object> context) {
+        return new CompletedResponse<>(value, null, context);
+    }
+
+    static <T> CompletedResponse<T> failure(Throwable failure, Map<String, Object> context) {
+        return new CompletedResponse<>(null, failure, context);
+    }
+
+    @Override
+    public Map<String, Object> getContext() {
+        return context;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    @Override
+    public T get() throws ExecutionException {
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return value;
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws ExecutionException {
+        return get();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,14 @@
 
 package jakarta.xml.ws;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 
@@ -82,6 +90,128 @@ public interface Dispatch<T> extends BindingProvider {
     **/
     Future<?> invokeAsync(T msg, AsyncHandler<T> handler);
 
+    /** Invoke a service operation asynchronously. The
+     *  method returns without waiting for the response to the operation
+     *  invocation, the returned {@code CompletionStage} is completed with
+     *  the response once it is available, or completed exceptionally with
+     *  the {@link WebServiceException} or other error that occurred during
+     *  the invocation. Cancelling the {@code CompletableFuture} obtained from
+     *  the returned stage attempts to cancel the invocation.
+     * <p>
+     * Unlike {@link #invokeAsync(Object)} no thread needs to wait for the
+     * response, so invocations can be chained and combined freely.
+     * <p>
+     * The client is responsible for ensuring that the {@code msg} object
+     * when marshalled is formed according to the requirements of the protocol
+     * binding in use.
+     * <p>
+     * The default implementation completes the stage from an
+     * {@link AsyncHandler} passed to {@link #invokeAsync(Object, AsyncHandler)},
+     * that is from a thread of the executor configured on the {@code Service}.
+     * Implementations are encouraged to override it and complete the stage
+     * directly from the thread receiving the response.
+     *
+     * @param msg An object that will form the message or payload of
+     *     the message used to invoke the operation.
+     * @return A {@code CompletionStage} of the response message or message
+     *     payload to the operation invocation.
+     * @throws WebServiceException If there is any error in the configuration of
+     *     the {@code Dispatch} instance
+     *
+     * @since 4.0.3
+    **/
+    default CompletionStage<T> invokeAsyncStage(T msg) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> invocation = invokeAsync(msg, res -> {
+            try {
+                result.complete(res.get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException e) {
+                result.cancel(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                invocation.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /** Invoke a service operation synchronously once for each of the
+     *  given messages, all sent to the port of this {@code Dispatch}.
+     * <p>
+     * The returned list holds one completed {@code Response} per message, in
+     * the order of {@code msgs}. Each carries the response, or the error which
+     * occurred while processing that message, and its own response context.
+     * A failing message does not prevent the remaining ones from being sent.
+     * <p>
+     * The client is responsible for ensuring that each {@code msg} object
+     * when marshalled is formed according to the requirements of the protocol
+     * binding in use.
+     * <p>
+     * The default implementation calls {@link #invoke(Object)} for each
+     * message. Implementations are encouraged to override it to amortize
+     * per invocation setup, for example by copying the request context once
+     * and pipelining the messages over a shared connection.
+     *
+     * @param msgs The objects that will form the messages or payloads of
+     *     the messages used to invoke the operation.
+     * @return The responses to the operation invocations, in order.
+     * @throws WebServiceException If there is any error in the configuration of
+     *     the {@code Dispatch} instance
+     * @throws NullPointerException If {@code msgs} is {@code null}.
+     *
+     * @since 4.0.3
+    **/
+    default List<Response<T>> invokeBatch(List<? extends T> msgs) {
+        List<Response<T>> responses = new ArrayList<>(msgs.size());
+        for (T msg : msgs) {
+            try {
+                T response = invoke(msg);
+                responses.add(CompletedResponse.success(response, copyOf(getResponseContext())));
+            } catch (RuntimeException e) {
+                responses.add(CompletedResponse.failure(e, copyOf(getResponseContext())));
+            }
+        }
+        return responses;
+    }
+
+    /** Invoke a service operation asynchronously once for each of the
+     *  given messages, all sent to the port of this {@code Dispatch}. The
+     *  method returns without waiting for the responses, the returned
+     *  {@code CompletionStage} is completed once all of them are available.
+     * <p>
+     * The list the stage is completed with holds one {@code Response} per
+     * message, in the order of {@code msgs}, as described for
+     * {@link #invokeBatch(List)}.
+     * <p>
+     * The default implementation sends the messages one after another using
+     * {@link #invokeAsync(Object, AsyncHandler)}. Implementations are
+     * encouraged to override it and pipeline the messages.
+     *
+     * @param msgs The objects that will form the messages or payloads of
+     *     the messages used to invoke the operation.
+     * @return A {@code CompletionStage} of the responses to the operation
+     *     invocations, in order.
+     * @throws WebServiceException If there is any error in the configuration of
+     *     the {@code Dispatch} instance
+     * @throws NullPointerException If {@code msgs} is {@code null}.
+     *
+     * @since 4.0.3
+    **/
+    default CompletionStage<List<Response<T>>> invokeBatchAsync(List<? extends T> msgs) {
+        return new DispatchBatch<>(this, msgs).start();
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> context) {
+        return context == null ? null : new HashMap<>(context);
+    }
+
     /** Invokes a service operation using the one-way
      *  interaction mode. The operation invocation is logically non-blocking,
      *  subject to the capabilities of the underlying protocol, no results
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default implementation of {@link Dispatch#invokeBatchAsync(List)}.
+ * <p>
+ * Messages are sent one after another using
+ * {@link Dispatch#invokeAsync(Object, AsyncHandler)}, the next one as soon
+ * as the response to the previous one has arrived. Handlers called
+ * synchronously from within {@code invokeAsync} are not allowed to
+ * recurse, so that the stack does not grow with the size of the batch.
+ *
+ * @param <T> The type of the message or payload
+ */
+final class DispatchBatch<T> implements AsyncHandler<T> {
+
+    private final Dispatch<T> dispatch;
+    private final List<? extends T> msgs;
+    private final List<Response<T>> responses;
+    private final CompletableFuture<List<Response<T>>> result = new CompletableFuture<>();
+
+    // guarded by this
+    private boolean sending;
+    private boolean responded;
+
+    DispatchBatch(Dispatch<T> dispatch, List<? extends T> msgs) {
+        this.dispatch = dispatch;
+        this.msgs = msgs;
+        this.responses = new ArrayList<>(msgs.size());
+    }
+
+    CompletableFuture<List<Response<T>>> start() {
+        sendNext();
+        return result;
+    }
+
+    @Override
+    public void handleResponse(Response<T> res) {
+        synchronized (this) {
+            responses.add(res);
+            if (sending) {
+                // called from within invokeAsync, the loop in sendNext continues
+                responded = true;
+                return;
+            }
+        }
+        sendNext();
+    }
+
+    private void sendNext() {
+        while (true) {
+            int next;
+            synchronized (this) {
+                next = responses.size();
+                if (next == msgs.size() || result.isDone()) {
+                    break;
+                }
+                sending = true;
+                responded = false;
+            }
+            try {
+                dispatch.invokeAsync(msgs.get(next), this);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    sending = false;
+                    responses.add(CompletedResponse.failure(e, null));
+                }
+                continue;
+            }
+            synchronized (this) {
+                sending = false;
+                if (!responded) {
+                    // the response arrives later on another thread
+                    return;
+                }
+            }
+        }
+        result.complete(responses);
+    }
+}
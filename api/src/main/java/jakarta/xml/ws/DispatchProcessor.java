@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link FlowDispatch}, wrapping the
+ * {@code Dispatch} created by the provider.
+ * <p>
+ * All signals to the subscriber are emitted from {@link #drain()}, which
+ * is run by one thread at a time. Whichever thread changes the state, be it
+ * the publisher, the subscriber or a response handler, runs it, or makes
+ * the thread currently running it loop once more.
+ *
+ * @param <T> The type of the message or payload
+ */
+final class DispatchProcessor<T> implements FlowDispatch<T> {
+
+    private final Dispatch<T> dispatch;
+    private final int maxInFlight;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // guarded by this
+    private final ArrayDeque<Call> calls = new ArrayDeque<>();
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super Response<T>> downstream;
+    private boolean subscribed;
+    private long demand;
+    private long requested;
+    private boolean completed;
+    private Throwable failure;
+    private boolean cancelled;
+    private Throwable abort;
+    private boolean terminated;
+
+    private DispatchProcessor(Dispatch<T> dispatch, int maxInFlight) {
+        this.dispatch = dispatch;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Creates a {@code Dispatch} with {@code factory}, wrapping it into a
+     * {@code FlowDispatch} if {@code features} enable the
+     * {@link FlowDispatchFeature}.
+     * <p>
+     * The {@code FlowDispatchFeature} is not passed to the provider.
+     */
+    static <T> Dispatch<T> create(WebServiceFeature[] features,
+            Function<WebServiceFeature[], Dispatch<T>> factory) {
+        FlowDispatchFeature feature = Features.find(features, FlowDispatchFeature.class);
+        if (feature == null) {
+            return factory.apply(features);
+        }
+        Dispatch<T> dispatch = factory.apply(Features.remove(features, FlowDispatchFeature.class));
+        if (!feature.isEnabled() || dispatch instanceof FlowDispatch) {
+            return dispatch;
+        }
+        return new DispatchProcessor<>(dispatch, feature.getMaxInFlight());
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        boolean cancel;
+        synchronized (this) {
+            cancel = upstream != null || cancelled;
+            if (!cancel) {
+                upstream = subscription;
+            }
+        }
+        if (cancel) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        Call call = new Call();
+        synchronized (this) {
+            if (cancelled || completed) {
+                return;
+            }
+            requested--;
+            calls.add(call);
+        }
+        Future<?> future;
+        try {
+            future = dispatch.invokeAsync(item, call);
+        } catch (RuntimeException e) {
+            call.handleResponse(CompletedResponse.failure(e, null));
+            return;
+        }
+        boolean cancel;
+        synchronized (this) {
+            call.future = future;
+            cancel = cancelled;
+        }
+        if (cancel && future != null) {
+            future.cancel(true);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            failure = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Response<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        boolean accept;
+        synchronized (this) {
+            accept = downstream == null;
+            if (accept) {
+                downstream = subscriber;
+            }
+        }
+        if (!accept) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("FlowDispatch supports one subscriber only"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                DispatchProcessor.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                DispatchProcessor.this.cancel(null);
+            }
+        });
+        synchronized (this) {
+            subscribed = true;
+        }
+        drain();
+    }
+
+    private void request(long n) {
+        if (n <= 0) {
+            cancel(new IllegalArgumentException("Non-positive number of requested responses: " + n));
+            return;
+        }
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            demand += n;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+        }
+        drain();
+    }
+
+    private void cancel(Throwable error) {
+        Flow.Subscription up;
+        List<Future<?>> futures = new ArrayList<>();
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            abort = error;
+            terminated = error == null;
+            up = upstream;
+            for (Call call : calls) {
+                if (call.future != null) {
+                    futures.add(call.future);
+                }
+            }
+            calls.clear();
+        }
+        if (up != null) {
+            up.cancel();
+        }
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        if (error != null) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            emit();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        while (true) {
+            Flow.Subscriber<? super Response<T>> s;
+            Response<T> next = null;
+            boolean terminate = false;
+            Throwable error = null;
+            Flow.Subscription up = null;
+            long n = 0;
+            synchronized (this) {
+                s = downstream;
+                if (terminated || s == null) {
+                    return;
+                }
+                Call head = calls.peek();
+                if (cancelled) {
+                    terminated = terminate = true;
+                    error = abort;
+                } else if (demand > 0 && head != null && head.response != null) {
+                    calls.poll();
+                    demand--;
+                    next = head.response;
+                } else if (completed && head == null) {
+                    if (!subscribed) {
+                        return;
+                    }
+                    terminated = terminate = true;
+                    error = failure;
+                } else if (!completed && upstream != null) {
+                    // bounded by both the demand and the responses in flight
+                    n = Math.min(maxInFlight, demand) - calls.size() - requested;
+                    if (n > 0) {
+                        requested += n;
+                        up = upstream;
+                    }
+                }
+            }
+            if (next != null) {
+                s.onNext(next);
+            } else if (terminate) {
+                if (error != null) {
+                    s.onError(error);
+                } else {
+                    s.onComplete();
+                }
+                return;
+            } else {
+                if (up != null) {
+                    up.request(n);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * A message which has been sent, and its response once available.
+     */
+    private final class Call implements AsyncHandler<T> {
+
+        // guarded by DispatchProcessor.this
+        private Future<?> future;
+        private Response<T> response;
+
+        @Override
+        public void handleResponse(Response<T> res) {
+            synchronized (DispatchProcessor.this) {
+                response = res;
+            }
+            drain();
+        }
+    }
+
+    @Override
+    public T invoke(T msg) {
+        return dispatch.invoke(msg);
+    }
+
+    @Override
+    public Response<T> invokeAsync(T msg) {
+        return dispatch.invokeAsync(msg);
+    }
+
+    @Override
+    public Future<?> invokeAsync(T msg, AsyncHandler<T> handler) {
+        return dispatch.invokeAsync(msg, handler);
+    }
+
+    @Override
+    public CompletionStage<T> invokeAsyncStage(T msg) {
+        return dispatch.invokeAsyncStage(msg);
+    }
+
+    @Override
+    public List<Response<T>> invokeBatch(List<? extends T> msgs) {
+        return dispatch.invokeBatch(msgs);
+    }
+
+    @Override
+    public CompletionStage<List<Response<T>>> invokeBatchAsync(List<? extends T> msgs) {
+        return dispatch.invokeBatchAsync(msgs);
+    }
+
+    @Override
+    public void invokeOneWay(T msg) {
+        dispatch.invokeOneWay(msg);
+    }
+
+    @Override
+    public Map<String, Object> getRequestContext() {
+        return dispatch.getRequestContext();
+    }
+
+    @Override
+    public Map<String, Object> getResponseContext() {
+        return dispatch.getResponseContext();
+    }
+
+    @Override
+    public Binding getBinding() {
+        return dispatch.getBinding();
+    }
+
+    @Override
+    public EndpointReference getEndpointReference() {
+        return dispatch.getEndpointReference();
+    }
+
+    @Override
+    public <E extends EndpointReference> E getEndpointReference(Class<E> clazz) {
+        return dispatch.getEndpointReference(clazz);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -36,7 +36,9 @@ import org.w3c.dom.Element;
  * to gain better control over the threads used to dispatch incoming
  * requests. For instance, thread pooling with certain parameters
  * can be enabled by creating a {@code ThreadPoolExecutor} and
- * registering it with the endpoint.
+ * registering it with the endpoint. Alternatively, a
+ * {@link VirtualThreadFeature} may be specified when the endpoint is
+ * created, to dispatch each request in a thread of its own.
  *
  * <p>Handler chains can be set using the contained {@code Binding}.
  *
@@ -153,7 +155,16 @@ public abstract class Endpoint {
      * @since 1.7, JAX-WS 2.2
      */
     public static Endpoint create(String bindingId, Object implementor, WebServiceFeature ... features) {
-        return Provider.provider().createEndpoint(bindingId, implementor, features);
+        VirtualThreadFeature virtualThreads = Features.find(features, VirtualThreadFeature.class);
+        if (virtualThreads == null) {
+            return Provider.provider().createEndpoint(bindingId, implementor, features);
+        }
+        Endpoint endpoint = Provider.provider().createEndpoint(bindingId, implementor,
+                Features.remove(features, VirtualThreadFeature.class));
+        if (virtualThreads.isEnabled()) {
+            endpoint.setExecutor(new VirtualThreadExecutor(virtualThreads.getMaxConcurrency()));
+        }
+        return endpoint;
     }
 
     /**
@@ -253,7 +264,19 @@ public abstract class Endpoint {
      * @since 1.7, JAX-WS 2.2
      */
     public static Endpoint publish(String address, Object implementor, WebServiceFeature ... features) {
-        return Provider.provider().createAndPublishEndpoint(address, implementor, features);
+        VirtualThreadFeature virtualThreads = Features.find(features, VirtualThreadFeature.class);
+        if (virtualThreads == null) {
+            return Provider.provider().createAndPublishEndpoint(address, implementor, features);
+        }
+        features = Features.remove(features, VirtualThreadFeature.class);
+        if (!virtualThreads.isEnabled()) {
+            return Provider.provider().createAndPublishEndpoint(address, implementor, features);
+        }
+        // the executor must be set before the endpoint is published
+        Endpoint endpoint = Provider.provider().createEndpoint(null, implementor, features);
+        endpoint.setExecutor(new VirtualThreadExecutor(virtualThreads.getMaxConcurrency()));
+        endpoint.publish(address);
+        return endpoint;
     }
 
     /**
@@ -296,6 +319,13 @@ public abstract class Endpoint {
      * the endpoints portably and not intended for the end
      * developers.
      *
+     * <p>
+     * The Jakarta XML Web Services runtime registers its handler with
+     * {@link HttpContext#setHandler}. It should register an
+     * {@link jakarta.xml.ws.spi.http.AsyncHttpHandler}, so that containers
+     * supporting asynchronous processing do not hold a thread while the
+     * endpoint processes the request.
+     *
      *
      * @param serverContext An object representing a server
      *           context to be used for publishing the endpoint.
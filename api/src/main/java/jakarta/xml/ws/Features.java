@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.util.Arrays;
+
+/**
+ * Utility methods for the features implemented by this API rather than
+ * by the Jakarta XML Web Services provider. Such features are removed
+ * before the remaining ones are passed to the provider.
+ */
+final class Features {
+
+    private Features() {}
+
+    /**
+     * Returns the feature of the given type among {@code features},
+     * or {@code null} if there is none.
+     */
+    static <F extends WebServiceFeature> F find(WebServiceFeature[] features, Class<F> type) {
+        if (features != null) {
+            for (WebServiceFeature f : features) {
+                if (type.isInstance(f)) {
+                    return type.cast(f);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code features} without the features of the given type.
+     */
+    static WebServiceFeature[] remove(WebServiceFeature[] features, Class<? extends WebServiceFeature> type) {
+        int n = 0;
+        WebServiceFeature[] result = new WebServiceFeature[features.length];
+        for (WebServiceFeature f : features) {
+            if (!type.isInstance(f)) {
+                result[n++] = f;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.util.concurrent.Flow;
+
+/** A {@code Dispatch} which is also a {@link Flow.Processor} of messages
+ *  to the {@code Response}s of the operations they were sent to.
+ * <p>
+ * {@code Dispatch} instances created by {@link Service#createDispatch
+ * Service.createDispatch} with an enabled {@link FlowDispatchFeature}
+ * implement this interface, for example
+ * {@snippet :
+ *  FlowDispatch<Source> dispatch = (FlowDispatch<Source>) service.createDispatch(
+ *          portName, Source.class, Service.Mode.PAYLOAD, new FlowDispatchFeature(32));
+ *  publisher.subscribe(dispatch);
+ *  dispatch.subscribe(subscriber);
+ * }
+ * <p>
+ * Each message received from the upstream publisher is sent
+ * asynchronously, as with {@link #invokeAsync(Object, AsyncHandler)}, and
+ * its {@code Response} is published downstream once available. Responses
+ * are published in the order the messages were received. A failed
+ * invocation is published as a {@code Response} whose {@code get} method
+ * throws, it does not terminate the stream.
+ * <p>
+ * Messages are requested from upstream only as far as the subscriber has
+ * requested responses, and never more than
+ * {@link FlowDispatchFeature#getMaxInFlight() maxInFlight} messages are
+ * sent without their responses having been delivered. A producer which
+ * is faster than the endpoint is thus throttled instead of buffered.
+ * <p>
+ * The stream of responses completes, or fails with the error of the
+ * upstream publisher, once all responses to the messages received before
+ * have been delivered. Cancelling the subscription cancels the upstream
+ * subscription and the invocations in flight. A {@code FlowDispatch} can be
+ * subscribed to one publisher and by one subscriber only.
+ *
+ * @param <T> The type of the message or payload
+ * @see FlowDispatchFeature
+ * @since 4.0.3
+**/
+public interface FlowDispatch<T> extends Dispatch<T>, Flow.Processor<T, Response<T>> {
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+/**
+ * This feature requests a {@link Dispatch} instance which can be used as
+ * a {@link java.util.concurrent.Flow.Processor}, see {@link FlowDispatch}.
+ * <p>
+ * This feature can be used during the creation of {@code Dispatch}
+ * instances with {@link Service#createDispatch Service.createDispatch}.
+ * It cannot be used for SEI proxies, {@link Endpoint} or {@link Service}
+ * instances.
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, the created {@code Dispatch} instance
+ *  implements {@link FlowDispatch}.
+ *  <li> DISABLED: In this Mode, the created {@code Dispatch} instance
+ *  is not required to implement {@code FlowDispatch}.
+ * </ul>
+ * <p>
+ * The {@link #getMaxInFlight() maxInFlight} property limits the number of
+ * messages that have been sent but whose responses have not yet been
+ * delivered to the subscriber.
+ *
+ * @see FlowDispatch
+ * @since 4.0.3
+ */
+public final class FlowDispatchFeature extends WebServiceFeature {
+
+    /**
+     * Constant value identifying the FlowDispatchFeature
+     */
+    public static final String ID = "jakarta.xml.ws.FlowDispatchFeature";
+
+    /**
+     * Default value of the {@code maxInFlight} property.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+    private final int maxInFlight;
+
+    /**
+     * Creates a {@code FlowDispatchFeature}.
+     * The instance created will be enabled.
+     */
+    public FlowDispatchFeature() {
+        this(true, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Creates a {@code FlowDispatchFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     */
+    public FlowDispatchFeature(boolean enabled) {
+        this(enabled, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Creates a {@code FlowDispatchFeature}.
+     * The instance created will be enabled.
+     *
+     * @param maxInFlight the maximum number of messages in flight
+     *
+     * @throws WebServiceException if maxInFlight is {@literal <=} 0
+     */
+    public FlowDispatchFeature(int maxInFlight) {
+        this(true, maxInFlight);
+    }
+
+    /**
+     * Creates a {@code FlowDispatchFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param maxInFlight the maximum number of messages in flight
+     *
+     * @throws WebServiceException if maxInFlight is {@literal <=} 0
+     */
+    public FlowDispatchFeature(boolean enabled, int maxInFlight) {
+        if (maxInFlight <= 0)
+            throw new WebServiceException("FlowDispatchFeature.maxInFlight must be > 0, actual value: " + maxInFlight);
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the maximum number of messages which have been sent, but whose
+     * responses have not yet been delivered to the subscriber.
+     *
+     * @return the maximum number of messages in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,8 +10,11 @@
 
 package jakarta.xml.ws;
 
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.ws.internal.XmlSupport;
 
 /** The {@code LogicalMessage} interface represents a
  *  protocol agnostic XML message and contains methods that
@@ -38,6 +41,75 @@ public interface LogicalMessage {
   **/
   Source getPayload();
 
+  /** Gets the qualified name of the root element of the message payload,
+   *  without materializing the payload.
+   *
+   *  <p>This method is meant for handlers which only need the root element,
+   *  for example for routing or auditing. The default implementation reads
+   *  the {@code Source} returned by {@link #getPayload()} up to the root
+   *  element. Implementations are encouraged to override it and return the
+   *  name without reading the payload.
+   *
+   *  @return The qualified name of the root element of the payload;
+   *          returns {@code null} if no payload is present in this message.
+   *  @throws WebServiceException If an error occurs while reading
+   *          the payload
+   *
+   *  @since 4.0.3
+  **/
+  default QName peekRootElement() {
+    Source payload = getPayload();
+    return payload == null ? null : Payloads.rootElement(payload);
+  }
+
+  /** Gets the message payload as a stream of XML events. Like
+   *  {@link #getPayload()}, may be called multiple times, always returns
+   *  a new reader of the entire message payload. The reader provides only
+   *  read access to the message payload, and should be closed once
+   *  the caller is done with it.
+   *
+   *  <p>The default implementation creates the reader from the
+   *  {@code Source} returned by {@link #getPayload()}, serializing it
+   *  first unless it is a {@code StreamSource} or a {@code StAXSource}.
+   *  Implementations are encouraged to override it and read the payload
+   *  directly from the underlying message.
+   *
+   *  @return The reader of the message payload, positioned at the start of
+   *          the document, or at its current event for the reader of a
+   *          {@code StAXSource}, which may already be the root element;
+   *          returns {@code null} if no payload is present in this message.
+   *  @throws WebServiceException If an error occurs while creating
+   *          the reader
+   *
+   *  @since 4.0.3
+  **/
+  default XMLStreamReader getPayloadReader() {
+    Source payload = getPayload();
+    return payload == null ? null : XmlSupport.createReader(payload);
+  }
+
+  /** Gets the message payload as an XML source for reading only. Unlike
+   *  {@link #getPayload()}, modifications to a returned {@code DOMSource}
+   *  never change the message payload, they apply to a copy. The message
+   *  is only changed by calling {@code setPayload}, so handlers using this
+   *  method let the runtime send the payload as received, without
+   *  serializing it again.
+   *
+   *  <p>The default implementation returns a deep copy of the node of a
+   *  {@code DOMSource} returned by {@link #getPayload()}, and other sources
+   *  as they are. Implementations are encouraged to override it and only
+   *  copy the payload once it is modified.
+   *
+   *  @return The contained message payload; returns {@code null} if no
+   *          payload is present in this message.
+   *
+   *  @since 4.0.3
+  **/
+  default Source getReadOnlyPayload() {
+    Source payload = getPayload();
+    return payload == null ? null : Payloads.readOnly(payload);
+  }
+
   /** Sets the message payload
    *
    *  @param  payload message payload
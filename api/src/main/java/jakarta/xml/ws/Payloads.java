@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+
+import jakarta.xml.ws.internal.XmlSupport;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Utility methods for the default methods of {@link LogicalMessage}.
+ */
+final class Payloads {
+
+    private Payloads() {}
+
+    /**
+     * Returns the name of the root element of {@code payload}, reading as
+     * little of it as possible.
+     */
+    static QName rootElement(Source payload) {
+        if (payload instanceof DOMSource) {
+            Node node = ((DOMSource) payload).getNode();
+            if (node instanceof Document) {
+                node = ((Document) node).getDocumentElement();
+            }
+            if (node == null || node.getNodeType() != Node.ELEMENT_NODE) {
+                return null;
+            }
+            String localName = node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+            String prefix = node.getPrefix();
+            return new QName(node.getNamespaceURI() != null ? node.getNamespaceURI() : "",
+                    localName, prefix != null ? prefix : "");
+        }
+        XMLStreamReader reader = XmlSupport.createReader(payload);
+        try {
+            // the reader of a StAXSource may already be on the root element
+            int event = reader.getEventType();
+            while (event != XMLStreamConstants.START_ELEMENT) {
+                if (!reader.hasNext()) {
+                    return null;
+                }
+                event = reader.next();
+            }
+            return reader.getName();
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // nothing more to read
+            }
+        }
+    }
+
+    /**
+     * Returns {@code payload}, or a copy of it if changes to it would
+     * change the message.
+     */
+    static Source readOnly(Source payload) {
+        if (payload instanceof DOMSource) {
+            DOMSource ds = (DOMSource) payload;
+            if (ds.getNode() != null) {
+                return new DOMSource(ds.getNode().cloneNode(true), ds.getSystemId());
+            }
+        }
+        return payload;
+    }
+}
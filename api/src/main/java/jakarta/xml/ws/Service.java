@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -97,11 +97,19 @@ public class Service {
      * @param features Web Service features that must be configured on
      *        the service. If the provider doesn't understand a feature,
      *        it must throw a WebServiceException.
+     * @see VirtualThreadFeature
      */
     protected Service(java.net.URL wsdlDocumentLocation, QName serviceName, WebServiceFeature ... features) {
+        VirtualThreadFeature virtualThreads = Features.find(features, VirtualThreadFeature.class);
+        if (virtualThreads != null) {
+            features = Features.remove(features, VirtualThreadFeature.class);
+        }
         delegate = Provider.provider().createServiceDelegate(wsdlDocumentLocation,
                 serviceName,
                 this.getClass(), features);
+        if (virtualThreads != null && virtualThreads.isEnabled()) {
+            delegate.setExecutor(new VirtualThreadExecutor(virtualThreads.getMaxConcurrency()));
+        }
     }
 
 
@@ -406,12 +414,14 @@ public class Service {
      * @see javax.xml.transform.Source
      * @see jakarta.xml.soap.SOAPMessage
      * @see WebServiceFeature
+     * @see FlowDispatchFeature
      *
      * @since 1.6, JAX-WS 2.1
      **/
     public <T> Dispatch<T> createDispatch(QName portName, Class<T> type,
             Service.Mode mode, WebServiceFeature... features) {
-        return delegate.createDispatch(portName, type, mode, features);
+        return DispatchProcessor.create(features,
+                f -> delegate.createDispatch(portName, type, mode, f));
     }
 
 
@@ -482,13 +492,45 @@ public class Service {
      * @see javax.xml.transform.Source
      * @see jakarta.xml.soap.SOAPMessage
      * @see WebServiceFeature
+     * @see FlowDispatchFeature
      *
      * @since 1.6, JAX-WS 2.1
      **/
     public <T> Dispatch<T> createDispatch(EndpointReference endpointReference,
             Class<T> type, Service.Mode mode,
             WebServiceFeature... features) {
-        return delegate.createDispatch(endpointReference, type, mode, features);
+        return DispatchProcessor.create(features,
+                f -> delegate.createDispatch(endpointReference, type, mode, f));
+    }
+
+    /**
+     * Creates a {@code StreamingDispatch} instance, for invocations with
+     * messages which are streamed rather than held in memory as a whole.
+     *
+     * @param portName  Qualified name for the target service endpoint
+     * @param mode Controls whether the created dispatch instance is message
+     * or payload oriented, i.e. whether the client will work with complete
+     * protocol messages or message payloads. E.g. when using the SOAP
+     * protocol, this parameter controls whether the client will work with
+     * SOAP messages or the contents of a SOAP body.
+     * @param features  A list of {@code WebServiceFeatures} to configure on the
+     *                proxy.  Supported features not in the {@code features
+     *                } parameter will have their default values.
+     *
+     * @return StreamingDispatch instance.
+     * @throws WebServiceException If any error in the creation of
+     *                  the {@code StreamingDispatch} object or if a
+     *                  feature is enabled that is not compatible with
+     *                  this port or is unsupported.
+     *
+     * @see StreamingDispatch
+     * @see WebServiceFeature
+     *
+     * @since 4.0.3
+     **/
+    public StreamingDispatch createStreamingDispatch(QName portName,
+            Service.Mode mode, WebServiceFeature... features) {
+        return delegate.createStreamingDispatch(portName, mode, features);
     }
 
     /**
@@ -540,12 +582,14 @@ public class Service {
      *
      * @see jakarta.xml.bind.JAXBContext
      * @see WebServiceFeature
+     * @see FlowDispatchFeature
      *
      * @since 1.6, JAX-WS 2.1
      **/
     public Dispatch<Object> createDispatch(QName portName,
             JAXBContext context, Service.Mode mode, WebServiceFeature... features) {
-        return delegate.createDispatch(portName, context, mode, features);
+        return DispatchProcessor.create(features,
+                f -> delegate.createDispatch(portName, context, mode, f));
     }
 
 
@@ -613,13 +657,15 @@ public class Service {
      *
      * @see jakarta.xml.bind.JAXBContext
      * @see WebServiceFeature
+     * @see FlowDispatchFeature
      *
      * @since 1.6, JAX-WS 2.1
     **/
     public Dispatch<Object> createDispatch(EndpointReference endpointReference,
             JAXBContext context, Service.Mode mode,
             WebServiceFeature... features) {
-        return delegate.createDispatch(endpointReference, context, mode, features);
+        return DispatchProcessor.create(features,
+                f -> delegate.createDispatch(endpointReference, context, mode, f));
     }
 
     /**
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/** The {@code StreamingDispatch} interface provides support for the
+ *  dynamic invocation of service endpoint operations with messages which
+ *  are never held in memory as a whole.
+ * <p>
+ * The request is written by a {@link RequestWriter} to an
+ * {@code XMLStreamWriter}, and the response is read from an
+ * {@code XMLStreamReader} over the live response. Depending on the mode
+ * the instance is created with, these are the complete protocol messages
+ * or the message payloads, as for {@link Dispatch}. The
+ * {@link Service#createStreamingDispatch Service.createStreamingDispatch}
+ * method acts as a factory for {@code StreamingDispatch} instances.
+ * <p>
+ * Jakarta XML Web Services implementations which do not support streaming
+ * MAY buffer the messages, in which case memory use is not independent
+ * of their size.
+ *
+ * @see Service#createStreamingDispatch
+ * @since 4.0.3
+**/
+public interface StreamingDispatch extends BindingProvider {
+
+    /** Writes the request of a {@code StreamingDispatch} invocation.
+     *
+     * @since 4.0.3
+    **/
+    @FunctionalInterface
+    interface RequestWriter {
+
+        /** Writes the message or payload to the given writer. The start
+         *  and the end of the document are written by the caller, this
+         *  method writes the elements in between and must not close the
+         *  writer.
+         *
+         * @param writer The writer to write the request to.
+         * @throws XMLStreamException If an error occurs while writing.
+        **/
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    /** Invoke a service operation synchronously, streaming the request
+     *  and the response.
+     * <p>
+     * The returned reader is positioned at the start of the response
+     * document, or at its current event if the response is read from an
+     * existing reader, such as the one of a {@code StAXSource}, which may
+     * already be the root element. Callers should check
+     * {@link XMLStreamReader#getEventType()} before advancing the reader.
+     * The caller MUST close it once the response has been read,
+     * or once it is no longer interested in it, in order to release the
+     * underlying resources such as the connection.
+     *
+     * @param request The writer of the message or payload of the message
+     *     used to invoke the operation.
+     * @return The reader of the response message or message payload, or
+     *     {@code null} if there is no response.
+     * @throws WebServiceException If a fault occurs during communication with
+     *     the service, or if {@code request} throws an
+     *     {@code XMLStreamException}
+     * @throws WebServiceException If there is any error in the configuration of
+     *     the {@code StreamingDispatch} instance
+    **/
+    XMLStreamReader invoke(RequestWriter request);
+
+    /** Invokes a service operation using the one-way interaction mode,
+     *  streaming the request. Like {@link Dispatch#invokeOneWay(Object)},
+     *  when the protocol in use is SOAP/HTTP, this method MUST block until
+     *  an HTTP response code has been received or an error occurs.
+     *
+     * @param request The writer of the message or payload of the message
+     *     used to invoke the operation.
+     * @throws WebServiceException If there is any error in the configuration of
+     *     the {@code StreamingDispatch} instance, if an error occurs during
+     *     the invocation, or if {@code request} throws an
+     *     {@code XMLStreamException}
+    **/
+    void invokeOneWay(RequestWriter request);
+}
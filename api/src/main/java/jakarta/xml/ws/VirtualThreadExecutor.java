@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@code Executor} which runs each task in a new thread, with an
+ * optional limit on the number of tasks run at the same time.
+ * <p>
+ * Threads are virtual threads when the Java runtime supports them,
+ * so that tasks blocking on I/O do not need a tuned thread pool. On
+ * older runtimes a new platform thread is started for each task, and
+ * the number of concurrent tasks is limited to
+ * {@link #DEFAULT_PLATFORM_MAX_CONCURRENCY} unless another limit is given.
+ * <p>
+ * Tasks submitted while the limit is reached wait, in submission order,
+ * until a running task completes. Waiting tasks do not hold a thread, and
+ * {@link #execute(Runnable)} never blocks.
+ * <p>
+ * If a thread cannot be started for the submitted task, {@code execute}
+ * rejects it with a {@code RejectedExecutionException} caused by the
+ * exception of {@link Thread#start()}. If it cannot be started for an
+ * earlier task which was waiting, that task stays at the head of the
+ * waiting tasks and is started once a running task completes or another
+ * task is submitted.
+ * <p>
+ * The statistics methods of this class can be used to monitor a
+ * {@link Service} or {@link Endpoint} using this executor. Their values
+ * are approximate while tasks are being submitted or completed.
+ *
+ * @see VirtualThreadFeature
+ * @since 4.0.3
+ */
+public final class VirtualThreadExecutor implements Executor {
+
+    /**
+     * Limit on the number of concurrent tasks of executors created without
+     * a limit, when tasks run in platform threads.
+     */
+    public static final int DEFAULT_PLATFORM_MAX_CONCURRENCY = 200;
+
+    private static final Logger logger = Logger.getLogger("jakarta.xml.ws");
+
+    private final int maxConcurrency;
+    private final ConcurrentLinkedDeque<Runnable> waiting = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * Creates a {@code VirtualThreadExecutor} with no limit on the
+     * number of concurrent tasks, or a limit of
+     * {@link #DEFAULT_PLATFORM_MAX_CONCURRENCY} if tasks run in platform
+     * threads.
+     */
+    public VirtualThreadExecutor() {
+        this(0);
+    }
+
+    /**
+     * Creates a {@code VirtualThreadExecutor}.
+     *
+     * @param maxConcurrency the maximum number of concurrent tasks,
+     * {@code 0} for no limit, or {@link #DEFAULT_PLATFORM_MAX_CONCURRENCY}
+     * if tasks run in platform threads
+     *
+     * @throws IllegalArgumentException if maxConcurrency is {@literal <} 0
+     */
+    public VirtualThreadExecutor(int maxConcurrency) {
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("The maxConcurrency must not be negative: " + maxConcurrency);
+        }
+        if (maxConcurrency == 0) {
+            maxConcurrency = Threads.VIRTUAL ? Integer.MAX_VALUE : DEFAULT_PLATFORM_MAX_CONCURRENCY;
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        submitted.increment();
+        waitingCount.incrementAndGet();
+        waiting.add(command);
+        RuntimeException failure = startWaiting();
+        if (failure == null) {
+            return;
+        }
+        if (waiting.removeLastOccurrence(command)) {
+            waitingCount.decrementAndGet();
+            submitted.decrement();
+            throw new RejectedExecutionException("Cannot start a thread for the task", failure);
+        }
+        // the command runs, a task submitted before it is still waiting
+        logger.log(Level.WARNING, "Cannot start a thread for a waiting task", failure);
+    }
+
+    // starts waiting tasks while below the limit, returns the exception
+    // of Thread.start() if a task could not be started
+    private RuntimeException startWaiting() {
+        while (!waiting.isEmpty()) {
+            int a = active.get();
+            if (a >= maxConcurrency) {
+                // a running task starts them once it completes
+                return null;
+            }
+            if (!active.compareAndSet(a, a + 1)) {
+                continue;
+            }
+            Runnable task = waiting.poll();
+            if (task == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            waitingCount.decrementAndGet();
+            boolean started = false;
+            try {
+                Threads.FACTORY.newThread(() -> run(task)).start();
+                started = true;
+            } catch (RuntimeException e) {
+                return e;
+            } finally {
+                if (!started) {
+                    // keep the task, and its place in the queue
+                    waiting.addFirst(task);
+                    waitingCount.incrementAndGet();
+                    active.decrementAndGet();
+                }
+            }
+            peak.accumulateAndGet(a + 1, Math::max);
+        }
+        return null;
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            completed.increment();
+            RuntimeException failure = startWaiting();
+            if (failure != null) {
+                logger.log(Level.WARNING, "Cannot start a thread for a waiting task", failure);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if this executor runs tasks in virtual threads.
+     *
+     * @return {@code true} if and only if tasks are run in virtual threads.
+     */
+    public boolean isVirtual() {
+        return Threads.VIRTUAL;
+    }
+
+    /**
+     * Returns the maximum number of tasks run at the same time.
+     *
+     * @return the maximum number of concurrent tasks, {@code 0} for no limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency == Integer.MAX_VALUE ? 0 : maxConcurrency;
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     *
+     * @return the number of running tasks
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Returns the largest number of tasks that have been running
+     * at the same time.
+     *
+     * @return the largest number of concurrent tasks
+     */
+    public int getPeakActiveCount() {
+        return peak.get();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a running task to complete.
+     *
+     * @return the number of waiting tasks
+     */
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    /**
+     * Returns the total number of tasks submitted to this executor.
+     *
+     * @return the number of submitted tasks
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * Returns the total number of tasks which have completed,
+     * normally or by throwing an exception.
+     *
+     * @return the number of completed tasks
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "[virtual=" + isVirtual()
+                + ", maxConcurrency=" + getMaxConcurrency()
+                + ", active=" + getActiveCount()
+                + ", waiting=" + getWaitingCount()
+                + ", completed=" + getCompletedCount() + "]";
+    }
+
+    /**
+     * The factory of the threads running the tasks, looked up once.
+     */
+    private static final class Threads {
+
+        static final ThreadFactory FACTORY;
+        static final boolean VIRTUAL;
+
+        static {
+            ThreadFactory factory = virtualThreadFactory();
+            VIRTUAL = factory != null;
+            FACTORY = factory != null ? factory : Executors.defaultThreadFactory();
+        }
+
+        // Thread.ofVirtual().factory(), not available with --release 11
+        private static ThreadFactory virtualThreadFactory() {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                        .getMethod("factory").invoke(builder);
+            } catch (InvocationTargetException e) {
+                // preview feature not enabled
+                logger.log(Level.FINE, "Virtual threads are not available", e.getCause());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.log(Level.FINE, "Virtual threads are not available", e);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws;
+
+/**
+ * This feature represents the use of a {@link VirtualThreadExecutor}
+ * as the executor of a {@link Service} or an {@link Endpoint}.
+ * <p>
+ * This feature can be used during the creation of {@link Service}
+ * instances on the client side with {@link Service#create Service.create}
+ * and {@link Endpoint} instances on the server side with
+ * {@link Endpoint#create Endpoint.create} and
+ * {@link Endpoint#publish(String, Object, WebServiceFeature...)
+ * Endpoint.publish}. This feature cannot be used for SEI proxy or
+ * {@link Dispatch} instances.
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, a new {@code VirtualThreadExecutor} is set
+ *  as the executor of the created instance, which runs each asynchronous
+ *  callback or incoming request in a thread of its own. The executor can be
+ *  obtained from {@code getExecutor()} to read its statistics.
+ *  <li> DISABLED: In this Mode, the executor of the created instance is
+ *  not changed.
+ * </ul>
+ * <p>
+ * The {@link #getMaxConcurrency() maxConcurrency} property limits the
+ * number of tasks the executor runs at the same time. Without virtual
+ * threads, a value of {@code 0} stands for
+ * {@link VirtualThreadExecutor#DEFAULT_PLATFORM_MAX_CONCURRENCY}.
+ *
+ * @see VirtualThreadExecutor
+ * @since 4.0.3
+ */
+public final class VirtualThreadFeature extends WebServiceFeature {
+
+    /**
+     * Constant value identifying the VirtualThreadFeature
+     */
+    public static final String ID = "jakarta.xml.ws.VirtualThreadFeature";
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a {@code VirtualThreadFeature}.
+     * The instance created will be enabled, with no limit on
+     * the number of concurrent tasks.
+     */
+    public VirtualThreadFeature() {
+        this(true, 0);
+    }
+
+    /**
+     * Creates a {@code VirtualThreadFeature}, with no limit on
+     * the number of concurrent tasks.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     */
+    public VirtualThreadFeature(boolean enabled) {
+        this(enabled, 0);
+    }
+
+    /**
+     * Creates a {@code VirtualThreadFeature}.
+     * The instance created will be enabled.
+     *
+     * @param maxConcurrency the maximum number of concurrent tasks,
+     * {@code 0} for no limit
+     *
+     * @throws WebServiceException if maxConcurrency is {@literal <} 0
+     */
+    public VirtualThreadFeature(int maxConcurrency) {
+        this(true, maxConcurrency);
+    }
+
+    /**
+     * Creates a {@code VirtualThreadFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param maxConcurrency the maximum number of concurrent tasks,
+     * {@code 0} for no limit
+     *
+     * @throws WebServiceException if maxConcurrency is {@literal <} 0
+     */
+    public VirtualThreadFeature(boolean enabled, int maxConcurrency) {
+        if (maxConcurrency < 0)
+            throw new WebServiceException("VirtualThreadFeature.maxConcurrency must be >= 0, actual value: " + maxConcurrency);
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the maximum number of tasks run at the same time.
+     *
+     * @return the maximum number of concurrent tasks, {@code 0} for no limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
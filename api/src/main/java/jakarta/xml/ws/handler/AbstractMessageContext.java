@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A base class for implementations of {@code MessageContext}, which
+ * stores the standard properties in an array indexed by the
+ * {@linkplain MessageContext.Key#getSlot() slot index} of their key, and
+ * the other properties in a {@code HashMap}.
+ * <p>
+ * {@link #getProperty(MessageContext.Key)} and
+ * {@link #setProperty(MessageContext.Key, Object)} access standard
+ * properties without hashing their names. The {@code Map} methods remain
+ * available for compatibility with existing handlers, and look up the key
+ * of a standard property by its name.
+ * <p>
+ * Properties are in the {@link MessageContext.Scope#HANDLER HANDLER}
+ * scope until their scope is changed with {@code setScope}. Removing a
+ * property resets its scope. Instances of this class are not safe for use
+ * by multiple threads.
+ *
+ * @since 4.0.3
+ */
+public abstract class AbstractMessageContext extends AbstractMap<String, Object> implements MessageContext {
+
+    private static final int SLOT_COUNT = MessageContext.Key.SLOT_COUNT;
+
+    private final Object[] slots = new Object[SLOT_COUNT];
+    // bit sets of the slots with a value and in the APPLICATION scope
+    private long present;
+    private long application;
+    private final Map<String, Object> others = new HashMap<>();
+    private Set<String> applicationOthers;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    /**
+     * Creates a new {@code AbstractMessageContext} instance without
+     * properties.
+     */
+    protected AbstractMessageContext() {
+    }
+
+    @Override
+    public <T> T getProperty(MessageContext.Key<T> key) {
+        int slot = key.getSlot();
+        return key.cast(slot >= 0 ? slots[slot] : others.get(key.getName()));
+    }
+
+    @Override
+    public <T> void setProperty(MessageContext.Key<T> key, T value) {
+        int slot = key.getSlot();
+        if (slot >= 0) {
+            slots[slot] = value;
+            present |= 1L << slot;
+        } else {
+            others.put(key.getName(), value);
+        }
+    }
+
+    @Override
+    public void setScope(MessageContext.Key<?> key, Scope scope) {
+        int slot = key.getSlot();
+        if (slot < 0) {
+            setScope(key.getName(), scope);
+            return;
+        }
+        if ((present & 1L << slot) == 0) {
+            throw new IllegalArgumentException("Property " + key.getName() + " does not exist");
+        }
+        if (scope == Scope.APPLICATION) {
+            application |= 1L << slot;
+        } else {
+            application &= ~(1L << slot);
+        }
+    }
+
+    @Override
+    public Scope getScope(MessageContext.Key<?> key) {
+        int slot = key.getSlot();
+        if (slot < 0) {
+            return getScope(key.getName());
+        }
+        if ((present & 1L << slot) == 0) {
+            throw new IllegalArgumentException("Property " + key.getName() + " does not exist");
+        }
+        return (application & 1L << slot) != 0 ? Scope.APPLICATION : Scope.HANDLER;
+    }
+
+    @Override
+    public void setScope(String name, Scope scope) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        if (key != null) {
+            setScope(key, scope);
+            return;
+        }
+        if (!others.containsKey(name)) {
+            throw new IllegalArgumentException("Property " + name + " does not exist");
+        }
+        if (scope == Scope.APPLICATION) {
+            if (applicationOthers == null) {
+                applicationOthers = new HashSet<>();
+            }
+            applicationOthers.add(name);
+        } else if (applicationOthers != null) {
+            applicationOthers.remove(name);
+        }
+    }
+
+    @Override
+    public Scope getScope(String name) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        if (key != null) {
+            return getScope(key);
+        }
+        if (!others.containsKey(name)) {
+            throw new IllegalArgumentException("Property " + name + " does not exist");
+        }
+        return applicationOthers != null && applicationOthers.contains(name) ? Scope.APPLICATION : Scope.HANDLER;
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(present) + others.size();
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        return key != null ? (present & 1L << key.getSlot()) != 0 : others.containsKey(name);
+    }
+
+    @Override
+    public Object get(Object name) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        return key != null ? slots[key.getSlot()] : others.get(name);
+    }
+
+    @Override
+    public Object put(String name, Object value) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        if (key == null) {
+            return others.put(name, value);
+        }
+        int slot = key.getSlot();
+        Object old = slots[slot];
+        slots[slot] = value;
+        present |= 1L << slot;
+        return old;
+    }
+
+    @Override
+    public Object remove(Object name) {
+        MessageContext.Key<?> key = MessageContext.Key.forName(name);
+        if (key != null) {
+            return removeSlot(key.getSlot());
+        }
+        if (applicationOthers != null) {
+            applicationOthers.remove(name);
+        }
+        return others.remove(name);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, null);
+        present = 0;
+        application = 0;
+        others.clear();
+        applicationOthers = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, Object>>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return AbstractMessageContext.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    AbstractMessageContext.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private Object removeSlot(int slot) {
+        Object old = slots[slot];
+        slots[slot] = null;
+        present &= ~(1L << slot);
+        application &= ~(1L << slot);
+        return old;
+    }
+
+    private int nextSlot(int from) {
+        if (from >= SLOT_COUNT) {
+            return SLOT_COUNT;
+        }
+        long bits = present & -1L << from;
+        return bits == 0 ? SLOT_COUNT : Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Iterates over the standard properties, then over the others.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final Iterator<Map.Entry<String, Object>> rest = others.entrySet().iterator();
+        private int slot = nextSlot(0);
+        private int lastSlot = -1;
+        private String lastName;
+
+        @Override
+        public boolean hasNext() {
+            return slot < SLOT_COUNT || rest.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (slot < SLOT_COUNT) {
+                lastSlot = slot;
+                slot = nextSlot(slot + 1);
+                return new SlotEntry(lastSlot);
+            }
+            if (!rest.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastSlot = -1;
+            Map.Entry<String, Object> e = rest.next();
+            lastName = e.getKey();
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                removeSlot(lastSlot);
+                lastSlot = -1;
+            } else {
+                rest.remove();
+                if (applicationOthers != null) {
+                    applicationOthers.remove(lastName);
+                }
+            }
+        }
+    }
+
+    /**
+     * A standard property, writing through to its slot.
+     */
+    private final class SlotEntry implements Map.Entry<String, Object> {
+
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return MessageContext.Key.forSlot(slot).getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return slots[slot];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object old = slots[slot];
+            slots[slot] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.ws.handler.soap.SOAPHandler;
+
+/**
+ * An immutable handler chain, partitioned into its logical handlers and
+ * its protocol handlers.
+ * <p>
+ * A {@code CompiledHandlerChain} is created once from a {@code List<Handler>},
+ * for example by {@link HandlerResolver#compileHandlerChain(PortInfo)},
+ * so that runtimes can run it for every message without sorting the
+ * handlers, checking their types or copying the list. Handlers which are
+ * not {@link LogicalHandler}s are protocol handlers, such as
+ * {@link SOAPHandler}s. Both keep their relative order from the list.
+ * <p>
+ * The {@linkplain #getHeaders() headers} of the chain are the union of the
+ * {@link SOAPHandler#getHeaders()} of its SOAP handlers, read when the
+ * chain is created, and so is the combined
+ * {@linkplain #getMessageAccess() message access} of its handlers.
+ *
+ * @see HandlerResolver
+ * @since 4.0.3
+ */
+public final class CompiledHandlerChain {
+
+    /**
+     * The handler chain without handlers.
+     */
+    public static final CompiledHandlerChain EMPTY = new CompiledHandlerChain(new LogicalHandler<?>[0],
+            new Handler<?>[0], Collections.emptySet(), MessageAccess.NONE);
+
+    private final List<LogicalHandler<?>> logicalHandlers;
+    private final List<Handler<?>> protocolHandlers;
+    private final Set<QName> headers;
+    private final boolean empty;
+    private final MessageAccess access;
+
+    private CompiledHandlerChain(LogicalHandler<?>[] logicalHandlers, Handler<?>[] protocolHandlers,
+            Set<QName> headers, MessageAccess access) {
+        this.logicalHandlers = Collections.unmodifiableList(Arrays.asList(logicalHandlers));
+        this.protocolHandlers = Collections.unmodifiableList(Arrays.asList(protocolHandlers));
+        this.headers = headers;
+        this.empty = logicalHandlers.length == 0 && protocolHandlers.length == 0;
+        this.access = access;
+    }
+
+    /**
+     * Creates a {@code CompiledHandlerChain} from a list of handlers.
+     *
+     * @param handlers The handlers, in the form returned by
+     *        {@link HandlerResolver#getHandlerChain(PortInfo)}. May be
+     *        {@code null}, which is the same as an empty list.
+     * @return {@code CompiledHandlerChain} of the handlers
+     * @throws NullPointerException If {@code handlers} contains {@code null}.
+     */
+    @SuppressWarnings("rawtypes")
+    public static CompiledHandlerChain of(List<? extends Handler> handlers) {
+        if (handlers == null || handlers.isEmpty()) {
+            return EMPTY;
+        }
+        List<LogicalHandler<?>> logical = new ArrayList<>();
+        List<Handler<?>> protocol = new ArrayList<>();
+        Set<QName> headers = new HashSet<>();
+        MessageAccess access = MessageAccess.NONE;
+        for (Handler<?> handler : handlers) {
+            Objects.requireNonNull(handler);
+            if (handler instanceof LogicalHandler) {
+                logical.add((LogicalHandler<?>) handler);
+                access = access.combine(handler.getMessageAccess().logical());
+            } else {
+                protocol.add(handler);
+                access = access.combine(handler.getMessageAccess());
+                if (handler instanceof SOAPHandler) {
+                    Set<QName> h = ((SOAPHandler<?>) handler).getHeaders();
+                    if (h != null) {
+                        headers.addAll(h);
+                    }
+                }
+            }
+        }
+        return new CompiledHandlerChain(logical.toArray(new LogicalHandler<?>[0]),
+                protocol.toArray(new Handler<?>[0]),
+                headers.isEmpty() ? Collections.<QName>emptySet() : Collections.unmodifiableSet(headers), access);
+    }
+
+    /**
+     * Gets the logical handlers of this chain.
+     *
+     * @return Unmodifiable list of the logical handlers
+     */
+    public List<LogicalHandler<?>> getLogicalHandlers() {
+        return logicalHandlers;
+    }
+
+    /**
+     * Gets the protocol handlers of this chain.
+     *
+     * @return Unmodifiable list of the protocol handlers
+     */
+    public List<Handler<?>> getProtocolHandlers() {
+        return protocolHandlers;
+    }
+
+    /**
+     * Gets the header blocks that can be processed by the SOAP handlers of
+     * this chain.
+     *
+     * @return Unmodifiable set of the {@code QNames} of the header blocks
+     */
+    public Set<QName> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets the combined {@link Handler#getMessageAccess() message access}
+     * of the handlers of this chain. Logical handlers only account for the
+     * payload, as they cannot access the rest of the message.
+     * <p>
+     * A runtime only needs a mutable {@code SOAPMessage} if the access is
+     * {@link MessageAccess#FULL FULL}. Otherwise it may keep the message in
+     * its streaming form, and only convert the payload for
+     * {@link MessageAccess#PAYLOAD PAYLOAD} access.
+     *
+     * @return The message access of this chain, {@link MessageAccess#NONE
+     *         NONE} for an empty chain
+     */
+    public MessageAccess getMessageAccess() {
+        return access;
+    }
+
+    /**
+     * Gets whether this chain has no handlers.
+     *
+     * @return {@code true} if this chain has no handlers
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Gets the number of handlers of this chain.
+     *
+     * @return Number of handlers
+     */
+    public int size() {
+        return logicalHandlers.size() + protocolHandlers.size();
+    }
+
+    /**
+     * Gets the handlers of this chain, the logical handlers first, in the
+     * form taken by {@link jakarta.xml.ws.Binding#setHandlerChain(List)}.
+     *
+     * @return New list of the handlers
+     */
+    @SuppressWarnings("rawtypes")
+    public List<Handler> toList() {
+        List<Handler> list = new ArrayList<>(size());
+        list.addAll(logicalHandlers);
+        list.addAll(protocolHandlers);
+        return list;
+    }
+}
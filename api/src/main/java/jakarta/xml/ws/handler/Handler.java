@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -69,4 +69,18 @@ public interface Handler<C extends MessageContext> {
    * @param context the message context
   **/
   void close(MessageContext context);
+
+  /**
+   * Gets the parts of the message this handler accesses. Runtimes may use
+   * it to avoid creating a {@code SOAPMessage} or a mutable DOM which no
+   * handler of the chain needs, see {@link MessageAccess}.
+   * <p>
+   * The default implementation returns {@link MessageAccess#FULL}.
+   *
+   * @return The access of this handler to the message
+   * @since 4.0.3
+  **/
+  default MessageAccess getMessageAccess() {
+    return MessageAccess.FULL;
+  }
 }
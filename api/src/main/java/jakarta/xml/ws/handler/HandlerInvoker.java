@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Invokes the methods of handlers on behalf of the runtime, notifying a
+ * {@link HandlerListener} of each invocation.
+ * <p>
+ * A runtime creates one instance per handler chain and port, from the
+ * listener of its {@link HandlerListenerFeature}, if any. Without a
+ * listener, the methods of this class invoke the handler directly, without
+ * reading the clock or the message context.
+ * <p>
+ * Instances of this class are immutable and safe for use by multiple
+ * threads.
+ *
+ * @since 4.0.3
+ */
+public final class HandlerInvoker {
+
+    private static final Logger logger = Logger.getLogger("jakarta.xml.ws");
+
+    private static final HandlerInvoker DIRECT = new HandlerInvoker(null, null);
+
+    private final HandlerListener listener;
+    private final PortInfo portInfo;
+
+    private HandlerInvoker(HandlerListener listener, PortInfo portInfo) {
+        this.listener = listener;
+        this.portInfo = portInfo;
+    }
+
+    /**
+     * Gets a {@code HandlerInvoker} notifying the given listener.
+     *
+     * @param listener The listener to notify, may be {@code null}
+     * @param portInfo The port reported to the listener, may be {@code null}
+     * @return {@code HandlerInvoker} notifying {@code listener}, or
+     *         invoking the handlers directly if it is {@code null}
+     */
+    public static HandlerInvoker of(HandlerListener listener, PortInfo portInfo) {
+        return listener != null ? new HandlerInvoker(listener, portInfo) : DIRECT;
+    }
+
+    /**
+     * Gets whether this invoker notifies a listener.
+     *
+     * @return {@code true} if this invoker notifies a listener
+     */
+    public boolean isInstrumented() {
+        return listener != null;
+    }
+
+    /**
+     * Invokes {@link Handler#handleMessage(MessageContext)}.
+     *
+     * @param <C> The type of the message context
+     * @param handler The handler to invoke
+     * @param context The message context
+     * @return The result of the handler
+     */
+    public <C extends MessageContext> boolean handleMessage(Handler<? super C> handler, C context) {
+        if (listener == null) {
+            return handler.handleMessage(context);
+        }
+        boolean outbound = isOutbound(context);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return handler.handleMessage(context);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            notify(handler, HandlerListener.Phase.HANDLE_MESSAGE, outbound, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * Invokes {@link Handler#handleFault(MessageContext)}.
+     *
+     * @param <C> The type of the message context
+     * @param handler The handler to invoke
+     * @param context The message context
+     * @return The result of the handler
+     */
+    public <C extends MessageContext> boolean handleFault(Handler<? super C> handler, C context) {
+        if (listener == null) {
+            return handler.handleFault(context);
+        }
+        boolean outbound = isOutbound(context);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return handler.handleFault(context);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            notify(handler, HandlerListener.Phase.HANDLE_FAULT, outbound, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * Invokes {@link Handler#close(MessageContext)}.
+     *
+     * @param handler The handler to invoke
+     * @param context The message context
+     */
+    public void close(Handler<?> handler, MessageContext context) {
+        if (listener == null) {
+            handler.close(context);
+            return;
+        }
+        boolean outbound = isOutbound(context);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            handler.close(context);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            notify(handler, HandlerListener.Phase.CLOSE, outbound, System.nanoTime() - start, failure);
+        }
+    }
+
+    private static boolean isOutbound(MessageContext context) {
+        return Boolean.TRUE.equals(context.getProperty(MessageContext.Key.MESSAGE_OUTBOUND_PROPERTY));
+    }
+
+    private void notify(Handler<?> handler, HandlerListener.Phase phase, boolean outbound, long elapsedNanos,
+            Throwable failure) {
+        try {
+            listener.handlerInvoked(handler.getClass(), phase, outbound, portInfo, elapsedNanos, failure);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "HandlerListener failed", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+/**
+ * A listener notified of each invocation of a handler by the runtime,
+ * for example to record the latency of each handler of a chain.
+ * <p>
+ * A listener is registered with a {@link HandlerListenerFeature}. Runtimes
+ * invoke the handlers through a {@link HandlerInvoker}, which measures the
+ * invocations and notifies the listener, and which invokes the handlers
+ * directly when no listener is registered.
+ * <p>
+ * Listeners are called on the threads processing the messages, possibly
+ * concurrently, and should return quickly. An exception thrown by a
+ * listener is logged and does not affect the processing of the message.
+ *
+ * @see HandlerInvoker
+ * @since 4.0.3
+ */
+@FunctionalInterface
+public interface HandlerListener {
+
+    /**
+     * The {@code Handler} method which was invoked.
+     */
+    enum Phase {
+
+        /**
+         * {@link Handler#handleMessage(MessageContext)}.
+         */
+        HANDLE_MESSAGE,
+
+        /**
+         * {@link Handler#handleFault(MessageContext)}.
+         */
+        HANDLE_FAULT,
+
+        /**
+         * {@link Handler#close(MessageContext)}.
+         */
+        CLOSE
+    }
+
+    /**
+     * Called after a handler method returned or threw.
+     *
+     * @param handlerClass The class of the handler
+     * @param phase The handler method which was invoked
+     * @param outbound The value of the
+     *        {@link MessageContext#MESSAGE_OUTBOUND_PROPERTY} property when
+     *        the method was invoked, {@code false} if it was not set
+     * @param portInfo The port the handler chain belongs to, may be
+     *        {@code null} if the runtime has none
+     * @param elapsedNanos The time the method took, in nanoseconds
+     * @param failure The exception thrown by the method, or {@code null}
+     *        if it returned normally
+     */
+    void handlerInvoked(Class<?> handlerClass, Phase phase, boolean outbound, PortInfo portInfo,
+            long elapsedNanos, Throwable failure);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+import java.util.Objects;
+
+import jakarta.xml.ws.WebServiceFeature;
+
+/**
+ * This feature registers a {@link HandlerListener} notified of each
+ * invocation of the handlers of a binding.
+ * <p>
+ * This feature can be used during the creation of SEI proxy, and
+ * {@link jakarta.xml.ws.Dispatch} instances on the client side and
+ * {@link jakarta.xml.ws.Endpoint} instances on the server side.
+ * <p>
+ * The following describes the affects of this feature with respect
+ * to being enabled or disabled:
+ * <ul>
+ *  <li> ENABLED: In this Mode, the runtime MUST invoke the handlers of
+ *  the created instance in a way which notifies the listener, for example
+ *  through a {@link HandlerInvoker}.
+ *  <li> DISABLED: In this Mode, the listener is not notified.
+ * </ul>
+ *
+ * @see HandlerListener
+ * @since 4.0.3
+ */
+public final class HandlerListenerFeature extends WebServiceFeature {
+
+    /**
+     * Constant value identifying the HandlerListenerFeature
+     */
+    public static final String ID = "jakarta.xml.ws.handler.HandlerListenerFeature";
+
+    private final HandlerListener listener;
+
+    /**
+     * Creates a {@code HandlerListenerFeature}.
+     * The instance created will be enabled.
+     *
+     * @param listener the listener to notify
+     *
+     * @throws NullPointerException if listener is {@code null}
+     */
+    public HandlerListenerFeature(HandlerListener listener) {
+        this(true, listener);
+    }
+
+    /**
+     * Creates a {@code HandlerListenerFeature}.
+     *
+     * @param enabled specifies if this feature should be enabled or not
+     * @param listener the listener to notify
+     *
+     * @throws NullPointerException if listener is {@code null}
+     */
+    public HandlerListenerFeature(boolean enabled, HandlerListener listener) {
+        this.enabled = enabled;
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+
+    /**
+     * Gets the listener to notify.
+     *
+     * @return the listener
+     */
+    public HandlerListener getListener() {
+        return listener;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -37,4 +37,22 @@ public interface HandlerResolver {
    *  @return {@code java.util.List<Handler>} chain
    **/
   List<Handler> getHandlerChain(PortInfo portInfo);
+
+  /**
+   *  Gets the handler chain for the specified port, partitioned for
+   *  execution by the runtime.
+   *  <p>
+   *  The default implementation returns
+   *  {@code CompiledHandlerChain.of(getHandlerChain(portInfo))}. Implementations
+   *  returning the same handlers for a port on every call may override it
+   *  to return a cached {@code CompiledHandlerChain}.
+   *
+   *  @param portInfo Contains information about the port being accessed.
+   *  @return {@code CompiledHandlerChain} chain
+   *
+   *  @since 4.0.3
+   **/
+  default CompiledHandlerChain compileHandlerChain(PortInfo portInfo) {
+    return CompiledHandlerChain.of(getHandlerChain(portInfo));
+  }
 }
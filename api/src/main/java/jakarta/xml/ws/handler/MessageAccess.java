@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler;
+
+/**
+ * The parts of a message a handler accesses, as declared by
+ * {@link Handler#getMessageAccess()}.
+ * <p>
+ * Runtimes may use the access declared by the handlers of a chain, see
+ * {@link CompiledHandlerChain#getMessageAccess()}, to keep a message in its
+ * streaming form, and to only create a {@code SOAPMessage} or a mutable
+ * DOM when a handler actually needs one. The result of a handler accessing
+ * more than it declared is unspecified, changes it makes to the message
+ * may for example be lost.
+ *
+ * @since 4.0.3
+ */
+public enum MessageAccess {
+
+    /**
+     * The handler only accesses the properties of the message context.
+     */
+    NONE(0),
+
+    /**
+     * The handler only reads the header blocks returned by
+     * {@link jakarta.xml.ws.handler.soap.SOAPHandler#getHeaders()}, through
+     * {@link jakarta.xml.ws.handler.soap.SOAPMessageContext#getHeaders
+     * SOAPMessageContext.getHeaders}.
+     */
+    HEADERS_READ_ONLY(MessageAccess.HEADERS_READ),
+
+    /**
+     * The handler only reads the payload of the message, through
+     * {@link jakarta.xml.ws.LogicalMessage}.
+     */
+    PAYLOAD_READ_ONLY(MessageAccess.PAYLOAD_READ),
+
+    /**
+     * The handler reads, but does not modify, the message.
+     */
+    READ_ONLY(MessageAccess.HEADERS_READ | MessageAccess.PAYLOAD_READ),
+
+    /**
+     * The handler reads and may modify the payload of the message, through
+     * {@link jakarta.xml.ws.LogicalMessage}.
+     */
+    PAYLOAD(MessageAccess.PAYLOAD_READ | MessageAccess.PAYLOAD_WRITE),
+
+    /**
+     * The handler may read and modify the whole message. This is the
+     * access of handlers which do not declare any.
+     */
+    FULL(MessageAccess.HEADERS_READ | MessageAccess.PAYLOAD_READ
+            | MessageAccess.PAYLOAD_WRITE | MessageAccess.MESSAGE_WRITE);
+
+    private static final int HEADERS_READ = 1;
+    private static final int PAYLOAD_READ = 2;
+    private static final int PAYLOAD_WRITE = 4;
+    private static final int MESSAGE_WRITE = 8;
+
+    private final int bits;
+
+    MessageAccess(int bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Gets whether this access does not modify the message.
+     *
+     * @return {@code true} for {@code NONE}, {@code HEADERS_READ_ONLY},
+     *         {@code PAYLOAD_READ_ONLY} and {@code READ_ONLY}
+     */
+    public boolean isReadOnly() {
+        return (bits & (PAYLOAD_WRITE | MESSAGE_WRITE)) == 0;
+    }
+
+    /**
+     * Gets the narrowest access which includes both this access and
+     * {@code other}, for example {@code READ_ONLY} for
+     * {@code HEADERS_READ_ONLY} and {@code PAYLOAD_READ_ONLY}.
+     *
+     * @param other The other access
+     * @return The narrowest access including both accesses
+     */
+    public MessageAccess combine(MessageAccess other) {
+        int union = bits | other.bits;
+        for (MessageAccess access : values()) {
+            if ((access.bits & union) == union) {
+                return access;
+            }
+        }
+        return FULL;
+    }
+
+    // logical handlers only see the payload
+    MessageAccess logical() {
+        switch (this) {
+            case FULL:
+            case PAYLOAD:
+                return PAYLOAD;
+            case READ_ONLY:
+            case PAYLOAD_READ_ONLY:
+                return PAYLOAD_READ_ONLY;
+            default:
+                return NONE;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -9,7 +9,12 @@
  */
 
 package jakarta.xml.ws.handler;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import javax.xml.namespace.QName;
 
 /**
  * The interface {@code MessageContext} abstracts the message
@@ -21,6 +26,12 @@ import java.util.Map;
  * enable handlers in a handler chain to share processing related
  * state.
  *
+ * <p>Properties can also be accessed with a typed {@link Key}. The keys of
+ * the standard properties have a fixed slot index, which lets
+ * implementations store them in an array instead of hashing their names,
+ * see {@link AbstractMessageContext}. The {@code Map} methods and the
+ * typed methods access the same properties.
+ *
  * @since 1.6, JAX-WS 2.0
  */
 public interface MessageContext extends Map<String, Object> {
@@ -197,4 +208,331 @@ public interface MessageContext extends Map<String, Object> {
      *             property name is specified
      */
     Scope getScope(String name);
+
+    /**
+     * Gets the value of a property.
+     * <p>
+     * The default implementation is equivalent to {@code get(key.getName())},
+     * implementations are encouraged to override it.
+     *
+     * @param <T> The type of the property
+     * @param key Key of the property
+     * @return Value of the property, or {@code null} if there is none
+     * @throws java.lang.ClassCastException if the value is not of the type
+     *             of the key
+     * @since 4.0.3
+     */
+    default <T> T getProperty(Key<T> key) {
+        return key.cast(get(key.getName()));
+    }
+
+    /**
+     * Sets the value of a property.
+     * <p>
+     * The default implementation is equivalent to
+     * {@code put(key.getName(), value)}, implementations are encouraged to
+     * override it.
+     *
+     * @param <T> The type of the property
+     * @param key Key of the property
+     * @param value Value of the property
+     * @since 4.0.3
+     */
+    default <T> void setProperty(Key<T> key, T value) {
+        put(key.getName(), value);
+    }
+
+    /**
+     * Sets the scope of a property.
+     * <p>
+     * The default implementation is equivalent to
+     * {@code setScope(key.getName(), scope)}.
+     *
+     * @param key Key of the property
+     * @param scope Desired scope of the property
+     * @throws java.lang.IllegalArgumentException if an illegal
+     *             property name is specified
+     * @since 4.0.3
+     */
+    default void setScope(Key<?> key, Scope scope) {
+        setScope(key.getName(), scope);
+    }
+
+    /**
+     * Gets the scope of a property.
+     * <p>
+     * The default implementation is equivalent to
+     * {@code getScope(key.getName())}.
+     *
+     * @param key Key of the property
+     * @return Scope of the property
+     * @throws java.lang.IllegalArgumentException if a non-existing
+     *             property name is specified
+     * @since 4.0.3
+     */
+    default Scope getScope(Key<?> key) {
+        return getScope(key.getName());
+    }
+
+    /**
+     * Typed key of a {@code MessageContext} property.
+     * <p>
+     * This class defines a key for each standard property, named after
+     * its {@code String} constant. Standard keys, and keys of standard
+     * properties with a narrower type, have a slot index between 0 and
+     * {@link #SLOT_COUNT} - 1, other keys, created with
+     * {@link #of(String, Class)}, have the slot index -1.
+     *
+     * @param <T> The type of the property
+     * @since 4.0.3
+     */
+    final class Key<T> {
+
+        private static final Map<String, Key<?>> STANDARD = new HashMap<>();
+        // in slot order, copied to SLOTS once all standard keys are created
+        private static final List<Key<?>> STANDARD_KEYS = new ArrayList<>();
+
+        /**
+         * Key of the {@link MessageContext#MESSAGE_OUTBOUND_PROPERTY} property.
+         */
+        public static final Key<Boolean> MESSAGE_OUTBOUND_PROPERTY =
+                standard(MessageContext.MESSAGE_OUTBOUND_PROPERTY, Boolean.class);
+
+        /**
+         * Key of the {@link MessageContext#INBOUND_MESSAGE_ATTACHMENTS} property.
+         */
+        public static final Key<Map<String, Object>> INBOUND_MESSAGE_ATTACHMENTS =
+                standard(MessageContext.INBOUND_MESSAGE_ATTACHMENTS, Map.class);
+
+        /**
+         * Key of the {@link MessageContext#OUTBOUND_MESSAGE_ATTACHMENTS} property.
+         */
+        public static final Key<Map<String, Object>> OUTBOUND_MESSAGE_ATTACHMENTS =
+                standard(MessageContext.OUTBOUND_MESSAGE_ATTACHMENTS, Map.class);
+
+        /**
+         * Key of the {@link MessageContext#WSDL_DESCRIPTION} property.
+         */
+        public static final Key<org.xml.sax.InputSource> WSDL_DESCRIPTION =
+                standard(MessageContext.WSDL_DESCRIPTION, org.xml.sax.InputSource.class);
+
+        /**
+         * Key of the {@link MessageContext#WSDL_SERVICE} property.
+         */
+        public static final Key<QName> WSDL_SERVICE =
+                standard(MessageContext.WSDL_SERVICE, QName.class);
+
+        /**
+         * Key of the {@link MessageContext#WSDL_PORT} property.
+         */
+        public static final Key<QName> WSDL_PORT =
+                standard(MessageContext.WSDL_PORT, QName.class);
+
+        /**
+         * Key of the {@link MessageContext#WSDL_INTERFACE} property.
+         */
+        public static final Key<QName> WSDL_INTERFACE =
+                standard(MessageContext.WSDL_INTERFACE, QName.class);
+
+        /**
+         * Key of the {@link MessageContext#WSDL_OPERATION} property.
+         */
+        public static final Key<QName> WSDL_OPERATION =
+                standard(MessageContext.WSDL_OPERATION, QName.class);
+
+        /**
+         * Key of the {@link MessageContext#HTTP_RESPONSE_CODE} property.
+         */
+        public static final Key<Integer> HTTP_RESPONSE_CODE =
+                standard(MessageContext.HTTP_RESPONSE_CODE, Integer.class);
+
+        /**
+         * Key of the {@link MessageContext#HTTP_REQUEST_HEADERS} property.
+         */
+        public static final Key<Map<String, List<String>>> HTTP_REQUEST_HEADERS =
+                standard(MessageContext.HTTP_REQUEST_HEADERS, Map.class);
+
+        /**
+         * Key of the {@link MessageContext#HTTP_RESPONSE_HEADERS} property.
+         */
+        public static final Key<Map<String, List<String>>> HTTP_RESPONSE_HEADERS =
+                standard(MessageContext.HTTP_RESPONSE_HEADERS, Map.class);
+
+        /**
+         * Key of the {@link MessageContext#HTTP_REQUEST_METHOD} property.
+         */
+        public static final Key<String> HTTP_REQUEST_METHOD =
+                standard(MessageContext.HTTP_REQUEST_METHOD, String.class);
+
+        /**
+         * Key of the {@link MessageContext#SERVLET_REQUEST} property.
+         */
+        public static final Key<Object> SERVLET_REQUEST =
+                standard(MessageContext.SERVLET_REQUEST, Object.class);
+
+        /**
+         * Key of the {@link MessageContext#SERVLET_RESPONSE} property.
+         */
+        public static final Key<Object> SERVLET_RESPONSE =
+                standard(MessageContext.SERVLET_RESPONSE, Object.class);
+
+        /**
+         * Key of the {@link MessageContext#SERVLET_CONTEXT} property.
+         */
+        public static final Key<Object> SERVLET_CONTEXT =
+                standard(MessageContext.SERVLET_CONTEXT, Object.class);
+
+        /**
+         * Key of the {@link MessageContext#QUERY_STRING} property.
+         */
+        public static final Key<String> QUERY_STRING =
+                standard(MessageContext.QUERY_STRING, String.class);
+
+        /**
+         * Key of the {@link MessageContext#PATH_INFO} property.
+         */
+        public static final Key<String> PATH_INFO =
+                standard(MessageContext.PATH_INFO, String.class);
+
+        /**
+         * Key of the {@link MessageContext#REFERENCE_PARAMETERS} property.
+         */
+        public static final Key<List<org.w3c.dom.Element>> REFERENCE_PARAMETERS =
+                standard(MessageContext.REFERENCE_PARAMETERS, List.class);
+
+        private static final Key<?>[] SLOTS = STANDARD_KEYS.toArray(new Key<?>[0]);
+
+        /**
+         * Number of slot indices of the standard keys.
+         */
+        public static final int SLOT_COUNT = SLOTS.length;
+
+        private final String name;
+        private final Class<?> type;
+        private final int slot;
+
+        private Key(String name, Class<?> type, int slot) {
+            this.name = name;
+            this.type = type;
+            this.slot = slot;
+        }
+
+        private static <T> Key<T> standard(String name, Class<?> type) {
+            Key<T> key = new Key<>(name, type, STANDARD_KEYS.size());
+            STANDARD.put(name, key);
+            STANDARD_KEYS.add(key);
+            return key;
+        }
+
+        /**
+         * Gets the key of a property.
+         *
+         * @param <T> The type of the property
+         * @param name Name of the property
+         * @param type Type of the property
+         * @return The standard key with the given name, or a new key with
+         *         the slot index -1 if {@code name} is not the name of a
+         *         standard property. If {@code type} is a subtype of the
+         *         type of the standard property, for example
+         *         {@code HttpServletRequest} for {@link #SERVLET_REQUEST},
+         *         a new key with the slot index of the standard key is
+         *         returned, and getting a value of another type with it
+         *         throws a {@code ClassCastException}.
+         * @throws java.lang.IllegalArgumentException if {@code name} is the
+         *             name of a standard property whose type is not
+         *             {@code type} or a supertype of it
+         */
+        @SuppressWarnings("unchecked")
+        public static <T> Key<T> of(String name, Class<T> type) {
+            Objects.requireNonNull(type);
+            Key<?> key = STANDARD.get(Objects.requireNonNull(name));
+            if (key == null) {
+                return new Key<>(name, type, -1);
+            }
+            if (key.type == type) {
+                return (Key<T>) key;
+            }
+            if (!key.type.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Property " + name + " is of type " + key.type.getName());
+            }
+            return new Key<>(name, type, key.slot);
+        }
+
+        /**
+         * Gets the key of a standard property.
+         *
+         * @param name Name of the property
+         * @return The standard key with the given name, or {@code null}
+         *         if {@code name} is not the name of a standard property
+         */
+        public static Key<?> forName(Object name) {
+            return STANDARD.get(name);
+        }
+
+        /**
+         * Gets the key of a standard property.
+         *
+         * @param slot Slot index of the property
+         * @return The standard key with the given slot index
+         * @throws java.lang.IndexOutOfBoundsException if {@code slot} is
+         *             not between 0 and {@link #SLOT_COUNT} - 1
+         */
+        public static Key<?> forSlot(int slot) {
+            return SLOTS[slot];
+        }
+
+        /**
+         * Gets the name of the property.
+         *
+         * @return Name of the property
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the type of the property.
+         *
+         * @return Type of the property, the raw type for generic types
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Gets the slot index of the property.
+         *
+         * @return Slot index of a standard property, -1 otherwise
+         */
+        public int getSlot() {
+            return slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        T cast(Object value) {
+            return (T) type.cast(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key<?> k = (Key<?>) o;
+            return name.equals(k.name) && type == k.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.handler.soap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.soap.SOAPHeader;
+import jakarta.xml.soap.SOAPHeaderElement;
+import jakarta.xml.soap.SOAPMessage;
+import jakarta.xml.ws.WebServiceException;
+
+/**
+ * An index of the header blocks of a SOAP message by qualified name, for
+ * implementing {@link SOAPMessageContext#getHeaders(QName, JAXBContext, boolean)}.
+ * <p>
+ * A Jakarta XML Web Services implementation may hold one instance per
+ * {@code SOAPMessageContext}, so that it is shared by all the handlers of
+ * a chain. The index is built by the first lookup, later lookups find the
+ * header blocks without scanning the SOAP header again. Headers are
+ * unmarshalled on each call, so that every caller gets its own instances.
+ * <p>
+ * The index must be invalidated whenever the message may have changed:
+ * {@link #setMessage(SOAPMessage)} does so for a new message, and
+ * {@link #invalidate()} should be called when the header blocks of the
+ * current message are modified in place, for example after a handler
+ * obtained the message with {@link SOAPMessageContext#getMessage()}.
+ * <p>
+ * Header blocks without an actor or role are considered targeted at this
+ * node. Instances of this class are not safe for use by multiple threads.
+ *
+ * @since 4.0.3
+ */
+public final class SOAPHeaderIndex {
+
+    private final Set<String> roles;
+    private SOAPMessage message;
+
+    // built by the first lookup
+    private Map<QName, List<SOAPHeaderElement>> all;
+    private Map<QName, List<SOAPHeaderElement>> targeted;
+
+    /**
+     * Creates a new {@code SOAPHeaderIndex} instance.
+     *
+     * @param roles The SOAP actor roles played by this SOAP node, see
+     *        {@link SOAPMessageContext#getRoles()}.
+     *
+     * @throws NullPointerException If {@code roles} is {@code null}.
+     */
+    public SOAPHeaderIndex(Set<String> roles) {
+        this.roles = Objects.requireNonNull(roles);
+    }
+
+    /**
+     * Sets the message to look up the headers in, invalidating the index.
+     *
+     * @param message The SOAP message, may be {@code null}.
+     */
+    public void setMessage(SOAPMessage message) {
+        this.message = message;
+        invalidate();
+    }
+
+    /**
+     * Discards the index, so that the next lookup reads the header blocks
+     * of the message again.
+     */
+    public void invalidate() {
+        all = null;
+        targeted = null;
+    }
+
+    /**
+     * Returns the header blocks with the given qualified name, in the
+     * order of the message.
+     *
+     * @param header The XML qualified name of the SOAP header(s).
+     * @param allRoles If {@code true} then returns headers for all SOAP
+     *        roles, if {@code false} then only returns headers targeted
+     *        at the roles played by this SOAP node.
+     * @return An unmodifiable list of the header blocks; returns an empty
+     *         list if no message is set or no headers match the supplied
+     *         qualified name.
+     * @throws WebServiceException If an error occurs when reading the
+     *         SOAP header of the message.
+     */
+    public List<SOAPHeaderElement> getHeaderElements(QName header, boolean allRoles) {
+        if (all == null) {
+            index();
+        }
+        List<SOAPHeaderElement> elements = (allRoles ? all : targeted).get(header);
+        return elements != null ? elements : Collections.<SOAPHeaderElement>emptyList();
+    }
+
+    /**
+     * Returns the header blocks with the given qualified name, unmarshalled
+     * with the given {@code JAXBContext}. Each call returns new instances.
+     *
+     * @param header The XML qualified name of the SOAP header(s).
+     * @param context The JAXBContext that should be used to unmarshall the
+     *        header
+     * @param allRoles If {@code true} then returns headers for all SOAP
+     *        roles, if {@code false} then only returns headers targeted
+     *        at the roles played by this SOAP node.
+     * @return An array of unmarshalled headers; returns an empty array if
+     *         no message is set or no headers match the supplied qualified
+     *         name.
+     * @throws WebServiceException If an error occurs when reading the
+     *         SOAP header of the message, or when using the supplied
+     *         {@code JAXBContext} to unmarshall. The cause of the
+     *         {@code WebServiceException} is the original exception.
+     */
+    public Object[] getHeaders(QName header, JAXBContext context, boolean allRoles) {
+        return unmarshal(getHeaderElements(header, allRoles), context);
+    }
+
+    private void index() {
+        Map<QName, List<SOAPHeaderElement>> a = new HashMap<>();
+        Map<QName, List<SOAPHeaderElement>> t = new HashMap<>();
+        SOAPHeader soapHeader;
+        try {
+            soapHeader = message != null ? message.getSOAPHeader() : null;
+        } catch (SOAPException e) {
+            throw new WebServiceException(e);
+        }
+        if (soapHeader != null) {
+            Iterator<SOAPHeaderElement> it = soapHeader.examineAllHeaderElements();
+            while (it.hasNext()) {
+                SOAPHeaderElement e = it.next();
+                String ns = e.getNamespaceURI();
+                QName name = new QName(ns != null ? ns : "", e.getLocalName());
+                a.computeIfAbsent(name, n -> new ArrayList<>(1)).add(e);
+                String actor = e.getActor();
+                if (actor == null || actor.isEmpty() || roles.contains(actor)) {
+                    t.computeIfAbsent(name, n -> new ArrayList<>(1)).add(e);
+                }
+            }
+        }
+        a.replaceAll((n, l) -> Collections.unmodifiableList(l));
+        t.replaceAll((n, l) -> Collections.unmodifiableList(l));
+        all = a;
+        targeted = t;
+    }
+
+    private static Object[] unmarshal(List<SOAPHeaderElement> elements, JAXBContext context) {
+        Object[] values = new Object[elements.size()];
+        if (values.length == 0) {
+            return values;
+        }
+        try {
+            Unmarshaller u = context.createUnmarshaller();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = u.unmarshal(elements.get(i));
+            }
+        } catch (JAXBException e) {
+            throw new WebServiceException(e);
+        }
+        return values;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -51,6 +51,10 @@ public interface SOAPMessageContext
    *  message context. Note that a SOAP message can contain multiple headers
    *  with the same qualified name.
    *
+   *  <p>Implementations may use a {@link SOAPHeaderIndex}, so that the
+   *  header blocks are only looked up once for all the handlers of a chain.
+   *  Each call still returns new unmarshalled instances.
+   *
    *  @param  header The XML qualified name of the SOAP header(s).
    *  @param  context The JAXBContext that should be used to unmarshall the 
    *          header
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.ws.WebServiceException;
+
+import org.w3c.dom.DOMImplementation;
+
+/**
+ * XML factories and utility methods shared by the implementation classes
+ * of this API.
+ * <p>
+ * This package is not exported, it is not part of the API.
+ */
+public final class XmlSupport {
+
+    /**
+     * Namespace aware input factory, which does not resolve external
+     * entities.
+     */
+    public static final XMLInputFactory INPUT = createInputFactory(false);
+
+    /**
+     * Same as {@link #INPUT}, but reporting adjacent character data as a
+     * single event.
+     */
+    public static final XMLInputFactory COALESCING_INPUT = createInputFactory(true);
+
+    /**
+     * Default output factory.
+     */
+    public static final XMLOutputFactory OUTPUT = XMLOutputFactory.newFactory();
+
+    /**
+     * Namespace aware DOM implementation.
+     */
+    public static final DOMImplementation DOM = createDOMImplementation();
+
+    private XmlSupport() {
+    }
+
+    /**
+     * Returns a reader of {@code source}. The reader of a
+     * {@code StAXSource} is returned as is. The reader of a
+     * {@code StreamSource} closes its stream, or its reader, when it is
+     * closed itself. Other sources are serialized first.
+     *
+     * @param source the source to read
+     * @return the reader
+     * @throws WebServiceException if the reader cannot be created
+     */
+    public static XMLStreamReader createReader(Source source) {
+        try {
+            if (source instanceof StAXSource && ((StAXSource) source).getXMLStreamReader() != null) {
+                return ((StAXSource) source).getXMLStreamReader();
+            }
+            if (source instanceof StreamSource) {
+                StreamSource ss = (StreamSource) source;
+                if (ss.getInputStream() != null) {
+                    return closing(ss.getInputStream(),
+                            INPUT.createXMLStreamReader(ss.getSystemId(), ss.getInputStream()));
+                }
+                if (ss.getReader() != null) {
+                    return closing(ss.getReader(), INPUT.createXMLStreamReader(ss.getSystemId(), ss.getReader()));
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            TransformerFactory.newInstance().newTransformer().transform(source, new StreamResult(out));
+            return INPUT.createXMLStreamReader(new ByteArrayInputStream(out.toByteArray()));
+        } catch (XMLStreamException | TransformerException e) {
+            if (source instanceof StreamSource) {
+                // not handed over to a reader
+                closeQuietly(((StreamSource) source).getInputStream());
+                closeQuietly(((StreamSource) source).getReader());
+            }
+            throw new WebServiceException(e);
+        }
+    }
+
+    // XMLStreamReader.close() does not close the underlying input
+    private static XMLStreamReader closing(Closeable in, XMLStreamReader reader) {
+        return new StreamReaderDelegate(reader) {
+            @Override
+            public void close() throws XMLStreamException {
+                XMLStreamException failure = null;
+                try {
+                    super.close();
+                } catch (XMLStreamException e) {
+                    failure = e;
+                }
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = new XMLStreamException(e);
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        };
+    }
+
+    private static void closeQuietly(Closeable in) {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // already failing
+            }
+        }
+    }
+
+    // factories are thread safe once configured
+    private static XMLInputFactory createInputFactory(boolean coalescing) {
+        XMLInputFactory f = XMLInputFactory.newFactory();
+        f.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        f.setProperty(XMLInputFactory.IS_COALESCING, coalescing);
+        f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return f;
+    }
+
+    private static DOMImplementation createDOMImplementation() {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        try {
+            return dbf.newDocumentBuilder().getDOMImplementation();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,7 +10,12 @@
 
 package jakarta.xml.ws.spi;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.logging.ConsoleHandler;
@@ -83,16 +88,20 @@ class FactoryFinder {
 
         // Use the system property
         T provider = fromSystemProperty(factoryId, fallbackClassName, classLoader);
-        if (provider != null) return provider;
+        if (provider != null) return found(Strategy.SYSTEM_PROPERTY, provider);
+
+        // Use the index generated at build time, if any
+        provider = fromIndex(factoryClass, fallbackClassName, classLoader);
+        if (provider != null) return found(Strategy.INDEX, provider);
 
         provider = ServiceLoaderUtil.firstByServiceLoader(factoryClass, LOGGER, EXCEPTION_HANDLER);
-        if (provider != null) return provider;
+        if (provider != null) return found(Strategy.SERVICE_LOADER, provider);
 
         // handling Glassfish (platform specific default)
         if (isOsgi()) {
             provider = lookupUsingOSGiServiceLoader(factoryId);
             if (provider != null) {
-                return provider;
+                return found(Strategy.OSGI_SERVICE_LOADER, provider);
             }
         }
 
@@ -101,8 +110,14 @@ class FactoryFinder {
                 "Provider for " + factoryId + " cannot be found", null);
         }
 
-        return ServiceLoaderUtil.newInstance(fallbackClassName,
-                fallbackClassName, classLoader, EXCEPTION_HANDLER);
+        return found(Strategy.FALLBACK, ServiceLoaderUtil.newInstance(fallbackClassName,
+                fallbackClassName, classLoader, EXCEPTION_HANDLER));
+    }
+
+    private static <T> T found(Strategy strategy, T provider) {
+        LOGGER.log(Level.FINE, "Provider {0} found using {1}",
+                new Object[]{provider.getClass().getName(), strategy});
+        return provider;
     }
 
     private static <T> T fromSystemProperty(String factoryId,
@@ -120,20 +135,93 @@ class FactoryFinder {
         return null;
     }
 
+    /**
+     * Suffix of the resource, next to the factory class, naming the implementation
+     * chosen at build time. See the {@code provider-index} profile of this module.
+     */
+    private static final String INDEX_SUFFIX = ".index";
+
+    private static <T> T fromIndex(Class<T> factoryClass,
+                                   String fallbackClassName,
+                                   ClassLoader classLoader) {
+        String className = readIndex(factoryClass);
+        if (className == null) {
+            return null;
+        }
+        LOGGER.log(Level.FINE, "Found provider index entry {0}", className);
+        try {
+            return newInstance(className, fallbackClassName, classLoader);
+        } catch (WebServiceException wse) {
+            // stale index, continue with the regular lookup
+            LOGGER.log(Level.FINE, "Provider " + className + " from the index cannot be used", wse);
+            return null;
+        }
+    }
+
+    private static String readIndex(Class<?> factoryClass) {
+        if (factoryClass == Provider.class) {
+            return IndexHolder.PROVIDER;
+        }
+        return loadIndex(factoryClass);
+    }
+
+    private static String loadIndex(Class<?> factoryClass) {
+        String resource = factoryClass.getSimpleName() + INDEX_SUFFIX;
+        try (InputStream is = factoryClass.getResourceAsStream(resource)) {
+            if (is == null) {
+                return null;
+            }
+            BufferedReader r = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = r.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    return line;
+                }
+            }
+        } catch (IOException | SecurityException e) {
+            LOGGER.log(Level.FINE, "Unable to read " + resource, e);
+        }
+        return null;
+    }
+
+    // the index is part of this module and never changes, read it once
+    private static final class IndexHolder {
+        static final String PROVIDER = loadIndex(Provider.class);
+    }
+
     private static final String OSGI_SERVICE_LOADER_CLASS_NAME = "org.glassfish.hk2.osgiresourcelocator.ServiceLoader";
 
     private static boolean isOsgi() {
-        try {
-            Class.forName(OSGI_SERVICE_LOADER_CLASS_NAME);
-            return true;
-        } catch (ClassNotFoundException cnfe) {
-            LOGGER.log(
-                    Level.SEVERE,
-                    "Class " + OSGI_SERVICE_LOADER_CLASS_NAME + " cannot be loaded",
-                    cnfe
-            );
+        return OsgiHolder.AVAILABLE;
+    }
+
+    /**
+     * Steps of the lookup performed by {@link #find(Class, String)}.
+     */
+    enum Strategy {
+        SYSTEM_PROPERTY,
+        INDEX,
+        SERVICE_LOADER,
+        OSGI_SERVICE_LOADER,
+        FALLBACK
+    }
+
+    // initialization on demand, the detection runs at most once
+    private static final class OsgiHolder {
+
+        static final boolean AVAILABLE = isClassAvailable(OSGI_SERVICE_LOADER_CLASS_NAME);
+
+        private static boolean isClassAvailable(String className) {
+            try {
+                Class.forName(className);
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                // expected outside of OSGi, nothing to report
+                LOGGER.log(Level.FINE, "Class {0} cannot be loaded", className);
+                return false;
+            }
         }
-        return false;
     }
 
     private static <T> T lookupUsingOSGiServiceLoader(String factoryId) {
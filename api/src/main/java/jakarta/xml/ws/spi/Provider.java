@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,8 +10,13 @@
 
 package jakarta.xml.ws.spi;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import javax.xml.namespace.QName;
 import jakarta.xml.ws.*;
 import jakarta.xml.ws.wsaddressing.W3CEndpointReference;
@@ -32,6 +37,23 @@ public abstract class Provider {
      **/
     private static final String DEFAULT_JAXWSPROVIDER = "com.sun.xml.ws.spi.ProviderImpl";
 
+    /**
+     * Name of the system property which, when set to {@code true},
+     * disables caching of resolved providers in {@link #provider()}.
+     */
+    private static final String DISABLE_CACHE_PROPERTY = "jakarta.xml.ws.spi.Provider.disableCache";
+
+    private static final boolean CACHE_DISABLED = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean(DISABLE_CACHE_PROPERTY));
+
+    /**
+     * Resolved providers keyed by the context class loader that was used
+     * for the lookup. Values are soft, so a provider defined by the key,
+     * or by one of its descendants, keeps that class loader reachable
+     * until it is cleared, either explicitly or under memory pressure.
+     */
+    private static final Map<ClassLoader, Reference<Provider>> CACHE = new WeakHashMap<>();
+
     /**
      * Creates a new instance of Provider
      */
@@ -56,10 +78,77 @@ public abstract class Provider {
      *  the recommended behavior is to simply look for some hard-coded platform default Jakarta XML Web Services implementation.
      *  This phase of the lookup is so that the environment can have its own Jakarta XML Web Services implementation as the last resort.
      * </ul>
+     * <p>
+     * If this API was built with an implementation recorded in its provider index,
+     * that implementation is used in place of the service-provider loading
+     * facilities, unless it cannot be loaded.
+     * <p>
+     * The provider found for a given thread context class loader is cached
+     * and returned by subsequent calls made with the same context class loader,
+     * so the lookup above runs only once per class loader. A cached provider
+     * whose class was loaded by the context class loader keeps that class
+     * loader reachable until the heap runs low on memory, so containers
+     * should call {@link #clearCache(ClassLoader)} when an application is
+     * undeployed. The cache can be emptied with {@link #clearCache()} and
+     * disabled altogether by setting the system property
+     * {@code jakarta.xml.ws.spi.Provider.disableCache} to {@code true}.
      *
      * @return provider object
      */
     public static Provider provider() {
+        if (CACHE_DISABLED) {
+            return lookup();
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        synchronized (CACHE) {
+            Reference<Provider> ref = CACHE.get(classLoader);
+            Provider provider = ref != null ? ref.get() : null;
+            if (provider != null) {
+                return provider;
+            }
+        }
+        // lookup outside of the lock, it may load classes and call user code
+        Provider provider = lookup();
+        synchronized (CACHE) {
+            Reference<Provider> ref = CACHE.get(classLoader);
+            Provider cached = ref != null ? ref.get() : null;
+            if (cached != null) {
+                return cached;
+            }
+            CACHE.put(classLoader, new SoftReference<>(provider));
+        }
+        return provider;
+    }
+
+    /**
+     * Removes all providers cached by {@link #provider()}. Subsequent calls
+     * to {@link #provider()} locate the provider again.
+     *
+     * @since 4.0.3
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Removes the provider cached by {@link #provider()} for the given
+     * thread context class loader. Containers should call this method
+     * when an application using {@code classLoader} is undeployed.
+     *
+     * @param classLoader the context class loader the provider was resolved
+     *        with; may be {@code null}
+     *
+     * @since 4.0.3
+     */
+    public static void clearCache(ClassLoader classLoader) {
+        synchronized (CACHE) {
+            CACHE.remove(classLoader);
+        }
+    }
+
+    private static Provider lookup() {
         try {
             return FactoryFinder.find(Provider.class, DEFAULT_JAXWSPROVIDER);
         } catch (WebServiceException ex) {
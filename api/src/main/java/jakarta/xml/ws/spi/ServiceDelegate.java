@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -12,8 +12,10 @@ package jakarta.xml.ws.spi;
 
 import java.util.Iterator;
 import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
 import jakarta.xml.ws.Dispatch;
 import jakarta.xml.ws.Service;
+import jakarta.xml.ws.StreamingDispatch;
 import jakarta.xml.ws.handler.HandlerResolver;
 import jakarta.xml.ws.WebServiceFeature;
 import jakarta.xml.bind.JAXBContext;
@@ -414,6 +416,41 @@ public abstract class ServiceDelegate {
 
 
 
+    /**
+     * Creates a {@code StreamingDispatch} instance, which streams the
+     * request and the response messages.
+     * <p>
+     * The default implementation creates a {@code Dispatch<Source>} with
+     * {@link #createDispatch(QName, Class, Service.Mode, WebServiceFeature...)}
+     * and buffers the request. Implementations are encouraged to override it
+     * and stream the messages, so that memory use is independent of their
+     * size.
+     *
+     * @param portName  Qualified name for the target service endpoint
+     * @param mode Controls whether the created dispatch instance is message
+     * or payload oriented, i.e. whether the user will work with complete
+     * protocol messages or message payloads. E.g. when using the SOAP
+     * protocol, this parameter controls whether the user will work with
+     * SOAP messages or the contents of a SOAP body.
+     * @param features  A list of {@code WebServiceFeatures} to configure on the
+     *                proxy.  Supported features not in the {@code features
+     *                } parameter will have their default values.
+     *
+     * @return StreamingDispatch instance
+     * @throws WebServiceException If any error in the creation of
+     *                  the {@code StreamingDispatch} object or if a
+     *                  feature is enabled that is not compatible with
+     *                  this port or is unsupported.
+     *
+     * @see WebServiceFeature
+     *
+     * @since 4.0.3
+     **/
+    public StreamingDispatch createStreamingDispatch(QName portName,
+            Service.Mode mode, WebServiceFeature... features) {
+        return new SourceStreamingDispatch(createDispatch(portName, Source.class, mode, features));
+    }
+
     /**
      * Creates a {@code Dispatch} instance for use with Jakarta XML Binding
      * generated objects.
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.ws.Binding;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.EndpointReference;
+import jakarta.xml.ws.StreamingDispatch;
+import jakarta.xml.ws.WebServiceException;
+import jakarta.xml.ws.internal.XmlSupport;
+
+/**
+ * Default implementation of
+ * {@link ServiceDelegate#createStreamingDispatch ServiceDelegate.createStreamingDispatch},
+ * on top of a {@code Dispatch<Source>}.
+ * <p>
+ * The request is buffered, and so is the response unless the provider
+ * returns it as a {@code StreamSource} or a {@code StAXSource}.
+ */
+final class SourceStreamingDispatch implements StreamingDispatch {
+
+    private final Dispatch<Source> dispatch;
+
+    SourceStreamingDispatch(Dispatch<Source> dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    @Override
+    public XMLStreamReader invoke(RequestWriter request) {
+        Source response = dispatch.invoke(toSource(request));
+        return response == null ? null : XmlSupport.createReader(response);
+    }
+
+    @Override
+    public void invokeOneWay(RequestWriter request) {
+        dispatch.invokeOneWay(toSource(request));
+    }
+
+    private static Source toSource(RequestWriter request) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            XMLStreamWriter writer = XmlSupport.OUTPUT.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            request.write(writer);
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(e);
+        }
+        return new StreamSource(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Override
+    public Map<String, Object> getRequestContext() {
+        return dispatch.getRequestContext();
+    }
+
+    @Override
+    public Map<String, Object> getResponseContext() {
+        return dispatch.getResponseContext();
+    }
+
+    @Override
+    public Binding getBinding() {
+        return dispatch.getBinding();
+    }
+
+    @Override
+    public EndpointReference getEndpointReference() {
+        return dispatch.getEndpointReference();
+    }
+
+    @Override
+    public <E extends EndpointReference> E getEndpointReference(Class<E> clazz) {
+        return dispatch.getEndpointReference(clazz);
+    }
+}
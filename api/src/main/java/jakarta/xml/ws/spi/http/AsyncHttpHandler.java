@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+import jakarta.xml.ws.Endpoint;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A handler which is invoked to process HTTP requests asynchronously.
+ * <p>
+ * Jakarta XML Web Services runtime may set an {@code AsyncHttpHandler}
+ * using {@link HttpContext#setHandler(HttpHandler)} during
+ * {@link Endpoint#publish(HttpContext) }. Containers which support
+ * asynchronous processing should invoke {@link #handleAsync(HttpExchange)}
+ * instead of {@link #handle(HttpExchange)}, and may release the thread
+ * that received the request as soon as it returns.
+ *
+ * @since 4.0.3
+ */
+public abstract class AsyncHttpHandler extends HttpHandler {
+
+    /**
+     * Default constructor.
+     */
+    protected AsyncHttpHandler() {}
+
+    /**
+     * Starts handling a given request, and returns without waiting for
+     * the response to be generated. The returned stage is completed once
+     * the exchange has been ended with {@link HttpExchange#close()} or
+     * {@link HttpExchange#closeAsync()}, or completed exceptionally if an
+     * error happens during request handling. Container invokes this method
+     * when it receives an incoming request, and must not use the exchange
+     * once the returned stage is completed.
+     *
+     * @param exchange the exchange containing the request from the
+     *      client and used to send the response
+     * @return the stage completed when the exchange has been handled
+     */
+    public abstract CompletionStage<Void> handleAsync(HttpExchange exchange);
+
+    /**
+     * Handles a given request and generates an appropriate response,
+     * for containers which do not support asynchronous processing.
+     * <p>
+     * This implementation invokes {@link #handleAsync(HttpExchange)} and
+     * waits for the returned stage to be completed.
+     *
+     * @param exchange the exchange containing the request from the
+     *      client and used to send the response
+     * @throws IOException when an I/O error happens during request
+     *      handling
+     */
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            handleAsync(exchange).toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handling the exchange");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
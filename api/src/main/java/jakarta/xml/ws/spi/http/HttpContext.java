@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -36,6 +36,10 @@ public abstract class HttpContext {
      * {@link Endpoint#publish(HttpContext)} to handle
      * HTTP requests for this context. Container or its extensions
      * use this handler to process the requests.
+     * <p>
+     * The handler may be an {@link AsyncHttpHandler}, in which case
+     * containers supporting asynchronous processing should use
+     * {@link AsyncHttpHandler#handleAsync(HttpExchange)}.
      *
      * @param handler the handler to set for this context
      */
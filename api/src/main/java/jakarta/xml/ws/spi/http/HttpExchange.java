@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -15,9 +15,16 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.security.Principal;
 
 /**
@@ -29,6 +36,12 @@ import java.security.Principal;
  * A {@code HttpExchange} must be closed to free or reuse
  * underlying resources. The effect of failing to close an exchange
  * is undefined.
+ * <p>
+ * Containers which support non-blocking I/O may expose the request and
+ * response bodies as {@link Flow} streams of {@code ByteBuffer}s, see
+ * {@link #isAsyncSupported()}. The runtime can then process an exchange
+ * without holding a thread while the client sends the request or
+ * receives the response, and end it with {@link #closeAsync()}.
  *
  * @author Jitendra Kotamraju
  * @since 1.7, JAX-WS 2.2
@@ -62,6 +75,12 @@ public abstract class HttpExchange {
     public static final String REQUEST_X509CERTIFICATE =
             "jakarta.xml.ws.spi.http.request.cert.X509Certificate";
 
+    // guarded by this, default implementations of the header view and
+    // the asynchronous body access
+    private HttpHeaders requestHttpHeaders;
+    private StreamBodyPublisher requestBodyPublisher;
+    private StreamBodySubscriber responseBodySubscriber;
+
     /**
      * Returns an immutable Map containing the HTTP headers that were 
      * included with this request. The keys in this Map will be the header 
@@ -91,6 +110,30 @@ public abstract class HttpExchange {
      */
      public abstract String getRequestHeader(String name);
 
+    /**
+     * Returns a read-only view of the HTTP headers that were included with
+     * this request, with case-insensitive lookup. Multiple calls to this
+     * method will return the same view. Unlike {@link #getRequestHeaders},
+     * the view can be searched for a header, and iterated, without
+     * allocating.
+     *
+     * <p>
+     * The default implementation returns {@link HttpHeaders#of} the map
+     * returned by {@link #getRequestHeaders}. Containers should override it
+     * to expose the headers as they were parsed.
+     *
+     * @return a view of the request headers
+     * @since 4.0.3
+     */
+    public HttpHeaders getRequestHttpHeaders() {
+        synchronized (this) {
+            if (requestHttpHeaders == null) {
+                requestHttpHeaders = HttpHeaders.of(getRequestHeaders());
+            }
+            return requestHttpHeaders;
+        }
+    }
+
     /**
      * Returns a mutable Map into which the HTTP response headers can be stored
      * and which will be transmitted as part of this response. The keys in the 
@@ -189,6 +232,187 @@ public abstract class HttpExchange {
      */
     public abstract OutputStream getResponseBody() throws IOException;
 
+    /**
+     * Returns {@code true} if the container implements
+     * {@link #writeResponseBody(FileChannel, long, long)} and
+     * {@link #writeResponseBody(ByteBuffer)} without copying the data
+     * to the heap, for example with {@code sendfile}. Otherwise these
+     * methods copy the data to the stream returned by
+     * {@link #getResponseBody()}.
+     *
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return {@code true} if response bodies are written without copying
+     * @since 4.0.3
+     */
+    public boolean isZeroCopySupported() {
+        return false;
+    }
+
+    /**
+     * Writes a region of a file as the response body, or as the next part
+     * of it. This method may be mixed with writes to the stream returned by
+     * {@link #getResponseBody()}, the data is sent in the order it is
+     * written. {@link #setStatus}) must be called prior to calling this
+     * method.
+     *
+     * <p>
+     * The default implementation transfers the region to the stream
+     * returned by {@link #getResponseBody()}.
+     *
+     * @param file the file to write from, its position is not changed
+     * @param position the position in the file of the first byte to write
+     * @param count the number of bytes to write
+     * @throws IOException if any i/o error during response processing, or
+     *         if the file has less than {@code count} bytes from
+     *         {@code position}
+     * @throws IllegalArgumentException if {@code position} or
+     *         {@code count} is negative
+     * @since 4.0.3
+     */
+    public void writeResponseBody(FileChannel file, long position, long count) throws IOException {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Negative position or count: " + position + ", " + count);
+        }
+        WritableByteChannel target = Channels.newChannel(getResponseBody());
+        while (count > 0) {
+            long n = file.transferTo(position, count, target);
+            if (n <= 0) {
+                throw new IOException("Unexpected end of file at position " + position);
+            }
+            position += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer, for example a
+     * {@link java.nio.MappedByteBuffer}, as the response body, or as the
+     * next part of it. This method may be mixed with writes to the stream
+     * returned by {@link #getResponseBody()}, the data is sent in the order
+     * it is written. {@link #setStatus}) must be called prior to calling
+     * this method.
+     *
+     * <p>
+     * Upon return the position of the buffer is its limit. The container
+     * does not use the buffer after this method has returned.
+     *
+     * <p>
+     * The default implementation writes the buffer to the stream
+     * returned by {@link #getResponseBody()}.
+     *
+     * @param buffer the buffer to write
+     * @throws IOException if any i/o error during response processing
+     * @since 4.0.3
+     */
+    public void writeResponseBody(ByteBuffer buffer) throws IOException {
+        WritableByteChannel target = Channels.newChannel(getResponseBody());
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the container implements
+     * {@link #getRequestBodyPublisher()}, {@link #getResponseBodySubscriber()}
+     * and {@link #closeAsync()} with non-blocking I/O. Otherwise these methods
+     * are implemented on top of the blocking streams and may block the
+     * calling thread.
+     *
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return {@code true} if the asynchronous body access does not block
+     * @since 4.0.3
+     */
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    /**
+     * Returns a publisher of the request body. The publisher accepts one
+     * subscriber, which is completed at the end of the request body.
+     * Multiple calls to this method will return the same publisher.
+     * The request body must be read either with this publisher or with
+     * {@link #getRequestBody()}, not both.
+     *
+     * <p>
+     * The default implementation reads the stream returned by
+     * {@link #getRequestBody()} in the thread requesting the buffers.
+     *
+     * @return the publisher of the request body
+     * @throws IOException if any i/o error during request processing
+     * @since 4.0.3
+     */
+    public Flow.Publisher<ByteBuffer> getRequestBodyPublisher() throws IOException {
+        synchronized (this) {
+            if (requestBodyPublisher == null) {
+                requestBodyPublisher = new StreamBodyPublisher(getRequestBody());
+            }
+            return requestBodyPublisher;
+        }
+    }
+
+    /**
+     * Returns a subscriber to which the response body must be published.
+     * The response body is complete once the subscriber has been completed.
+     * {@link #setStatus}) must be called prior to calling this method.
+     * Multiple calls to this method (for the same exchange) will return
+     * the same subscriber. The response body must be written either with
+     * this subscriber or with {@link #getResponseBody()}, not both.
+     *
+     * <p>
+     * The default implementation writes to the stream returned by
+     * {@link #getResponseBody()} in the thread publishing the buffers.
+     *
+     * @return the subscriber to which the response body is published
+     * @throws IOException if any i/o error during response processing
+     * @since 4.0.3
+     */
+    public Flow.Subscriber<ByteBuffer> getResponseBodySubscriber() throws IOException {
+        synchronized (this) {
+            if (responseBodySubscriber == null) {
+                responseBodySubscriber = new StreamBodySubscriber(getResponseBody());
+            }
+            return responseBodySubscriber;
+        }
+    }
+
+    /**
+     * Ends this exchange like {@link #close()}, but without waiting for
+     * the response to be sent. The returned stage is completed once the
+     * container has sent the response and freed the underlying resources,
+     * or completed exceptionally if that failed, for example because the
+     * client disconnected.
+     *
+     * <p>
+     * The default implementation calls {@link #close()}. The returned stage
+     * is completed exceptionally if it throws, or if writing the response
+     * body with {@link #getResponseBodySubscriber()} has failed.
+     *
+     * @return the stage completed when the exchange has ended
+     * @since 4.0.3
+     */
+    public CompletionStage<Void> closeAsync() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            close();
+            IOException failure;
+            synchronized (this) {
+                failure = responseBodySubscriber == null ? null : responseBodySubscriber.failure();
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(null);
+            }
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     /**
      * Sets the HTTP status code for the response.
      *
@@ -224,6 +448,87 @@ public abstract class HttpExchange {
      */
     public abstract String getProtocol();
 
+    /**
+     * Returns {@code true} if this exchange is one of several streams
+     * multiplexed on the same connection, as with HTTP/2 or HTTP/3.
+     *
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return {@code true} if the request is received on a
+     *         multiplexed connection
+     * @see #getStreamId()
+     * @since 4.0.3
+     */
+    public boolean isMultiplexed() {
+        return false;
+    }
+
+    /**
+     * Returns the identifier of the stream of this exchange on a
+     * multiplexed connection, for example the HTTP/2 stream identifier.
+     *
+     * <p>
+     * The default implementation returns {@code -1}.
+     *
+     * @return the stream identifier, or {@code -1} if this exchange
+     *         is not {@link #isMultiplexed() multiplexed}
+     * @since 4.0.3
+     */
+    public long getStreamId() {
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if the container can send trailer fields after
+     * the response body, see {@link #addResponseTrailer(String, String)}.
+     * This is typically the case for HTTP/2, and for HTTP/1.1 with chunked
+     * transfer coding.
+     *
+     * <p>
+     * The default implementation returns {@code false}.
+     *
+     * @return {@code true} if response trailers are supported
+     * @since 4.0.3
+     */
+    public boolean isTrailersSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the trailer fields which were sent after the request body.
+     * They are only known once the request body has been read completely,
+     * before that this method returns no fields.
+     *
+     * <p>
+     * The default implementation returns no fields.
+     *
+     * @return a view of the request trailer fields
+     * @since 4.0.3
+     */
+    public HttpHeaders getRequestTrailers() {
+        return MapHttpHeaders.EMPTY;
+    }
+
+    /**
+     * Adds a trailer field to be sent after the response body, for example
+     * a checksum computed while the body is written. This method must be
+     * called before the response body is completed, and is only supported
+     * if {@link #isTrailersSupported()} returns {@code true}.
+     *
+     * <p>
+     * The default implementation throws {@code UnsupportedOperationException}.
+     *
+     * @param name the name of the trailer field
+     * @param value the value of the trailer field
+     * @throws UnsupportedOperationException if trailers are not supported
+     * @throws IllegalStateException if the response body has been completed
+     * @since 4.0.3
+     */
+    public void addResponseTrailer(String name, String value) {
+        throw new UnsupportedOperationException("Response trailers are not supported by this container.");
+    }
+
     /**
      * Returns the name of the scheme used to make this request,
      * for example: http, or https.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -20,6 +20,7 @@ import java.io.IOException;
  * it using {@link HttpContext#setHandler(HttpHandler)} during
  * {@link Endpoint#publish(HttpContext) }
  *
+ * @see AsyncHttpHandler
  * @author Jitendra Kotamraju
  * @since 1.7, JAX-WS 2.2
  */
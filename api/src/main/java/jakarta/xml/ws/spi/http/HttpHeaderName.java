@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+/**
+ * The name of an HTTP header, compared case-insensitively.
+ * <p>
+ * The case-insensitive hash code of the name is computed once, so
+ * looking up a header by an {@code HttpHeaderName} in {@link HttpHeaders}
+ * neither converts the case of nor allocates strings. The constants of
+ * this class should be used for the headers frequently looked up by the
+ * Jakarta XML Web Services runtime.
+ *
+ * @see HttpHeaders
+ * @since 4.0.3
+ */
+public final class HttpHeaderName {
+
+    /**
+     * The {@code Accept} header.
+     */
+    public static final HttpHeaderName ACCEPT = new HttpHeaderName("Accept");
+
+    /**
+     * The {@code Accept-Encoding} header.
+     */
+    public static final HttpHeaderName ACCEPT_ENCODING = new HttpHeaderName("Accept-Encoding");
+
+    /**
+     * The {@code Authorization} header.
+     */
+    public static final HttpHeaderName AUTHORIZATION = new HttpHeaderName("Authorization");
+
+    /**
+     * The {@code Connection} header.
+     */
+    public static final HttpHeaderName CONNECTION = new HttpHeaderName("Connection");
+
+    /**
+     * The {@code Content-Encoding} header.
+     */
+    public static final HttpHeaderName CONTENT_ENCODING = new HttpHeaderName("Content-Encoding");
+
+    /**
+     * The {@code Content-Length} header.
+     */
+    public static final HttpHeaderName CONTENT_LENGTH = new HttpHeaderName("Content-Length");
+
+    /**
+     * The {@code Content-Type} header.
+     */
+    public static final HttpHeaderName CONTENT_TYPE = new HttpHeaderName("Content-Type");
+
+    /**
+     * The {@code Host} header.
+     */
+    public static final HttpHeaderName HOST = new HttpHeaderName("Host");
+
+    /**
+     * The {@code SOAPAction} header of SOAP 1.1.
+     */
+    public static final HttpHeaderName SOAP_ACTION = new HttpHeaderName("SOAPAction");
+
+    /**
+     * The {@code Transfer-Encoding} header.
+     */
+    public static final HttpHeaderName TRANSFER_ENCODING = new HttpHeaderName("Transfer-Encoding");
+
+    /**
+     * The {@code User-Agent} header.
+     */
+    public static final HttpHeaderName USER_AGENT = new HttpHeaderName("User-Agent");
+
+    private static final HttpHeaderName[] WELL_KNOWN = {
+        ACCEPT, ACCEPT_ENCODING, AUTHORIZATION, CONNECTION, CONTENT_ENCODING, CONTENT_LENGTH,
+        CONTENT_TYPE, HOST, SOAP_ACTION, TRANSFER_ENCODING, USER_AGENT
+    };
+
+    private final String name;
+    private final int hash;
+
+    private HttpHeaderName(String name) {
+        this.name = name;
+        this.hash = hash(name);
+    }
+
+    /**
+     * Returns the {@code HttpHeaderName} for the given name. The constant
+     * of this class is returned for a well-known header.
+     *
+     * @param name the name of the header
+     * @return the {@code HttpHeaderName} for {@code name}
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    public static HttpHeaderName of(String name) {
+        int h = hash(name);
+        for (HttpHeaderName n : WELL_KNOWN) {
+            if (n.hash == h && n.matches(name)) {
+                return n;
+            }
+        }
+        return new HttpHeaderName(name);
+    }
+
+    /**
+     * Returns the name of the header, as given when this instance was
+     * created.
+     *
+     * @return the name of the header
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns {@code true} if {@code name} is equal to the name of this
+     * header, ignoring the case of ASCII letters.
+     *
+     * @param name the header name to compare with, may be {@code null}
+     * @return {@code true} if {@code name} names this header
+     */
+    public boolean matches(String name) {
+        if (name == null || name.length() != this.name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (toLowerAscii(name.charAt(i)) != toLowerAscii(this.name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the case-insensitive hash code of a header name, equal to
+     * the {@link #hashCode()} of the {@code HttpHeaderName} of that name.
+     */
+    static int hash(String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + toLowerAscii(name.charAt(i));
+        }
+        return h;
+    }
+
+    // unlike Character.toLowerCase, only folds ASCII letters
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpHeaderName)) {
+            return false;
+        }
+        HttpHeaderName n = (HttpHeaderName) o;
+        return hash == n.hash && matches(n.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only, indexed view of HTTP headers with case-insensitive lookup.
+ * <p>
+ * The headers are a sequence of name and value pairs, in the order they
+ * were received. A header listed several times has one pair per value.
+ * They can be iterated by index, and looked up by name, without
+ * allocating:
+ * {@snippet :
+ *  HttpHeaders headers = exchange.getRequestHttpHeaders();
+ *  String contentType = headers.getFirst(HttpHeaderName.CONTENT_TYPE);
+ *  for (int i = headers.indexOf(HttpHeaderName.ACCEPT, 0); i >= 0;
+ *          i = headers.indexOf(HttpHeaderName.ACCEPT, i + 1)) {
+ *      String accept = headers.getValue(i);
+ *  }
+ * }
+ * <p>
+ * Containers may extend this class to expose the headers as they were
+ * parsed, without copying them into a {@code Map}.
+ *
+ * @see HttpExchange#getRequestHttpHeaders()
+ * @since 4.0.3
+ */
+public abstract class HttpHeaders {
+
+    /**
+     * Default constructor.
+     */
+    protected HttpHeaders() {}
+
+    /**
+     * Returns a view of the given headers. The returned view holds a
+     * copy of the headers, later changes to {@code headers} are not
+     * reflected by it.
+     *
+     * @param headers the headers, the keys being the header names
+     * @return the view of {@code headers}
+     */
+    public static HttpHeaders of(Map<String, List<String>> headers) {
+        return new MapHttpHeaders(headers);
+    }
+
+    /**
+     * Returns the number of name and value pairs.
+     *
+     * @return the number of name and value pairs
+     */
+    public abstract int size();
+
+    /**
+     * Returns the name of the pair at the given index.
+     *
+     * @param index the index of the pair
+     * @return the name of the header
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public abstract String getName(int index);
+
+    /**
+     * Returns the value of the pair at the given index.
+     *
+     * @param index the index of the pair
+     * @return the value of the header
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public abstract String getValue(int index);
+
+    /**
+     * Returns the index of the first pair with the given name at or
+     * after {@code from}.
+     *
+     * @param name the name of the header
+     * @param from the index to start from
+     * @return the index of the pair, or {@code -1} if there is none
+     */
+    public int indexOf(HttpHeaderName name, int from) {
+        for (int i = Math.max(from, 0); i < size(); i++) {
+            if (name.matches(getName(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first pair with the given name at or
+     * after {@code from}. The name is compared case-insensitively.
+     *
+     * @param name the name of the header
+     * @param from the index to start from
+     * @return the index of the pair, or {@code -1} if there is none
+     */
+    public int indexOf(String name, int from) {
+        for (int i = Math.max(from, 0); i < size(); i++) {
+            if (name.equalsIgnoreCase(getName(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first value of the given header.
+     *
+     * @param name the name of the header
+     * @return the first value, or {@code null} if there is no such header
+     */
+    public String getFirst(HttpHeaderName name) {
+        int i = indexOf(name, 0);
+        return i < 0 ? null : getValue(i);
+    }
+
+    /**
+     * Returns the first value of the given header. The name is compared
+     * case-insensitively.
+     *
+     * @param name the name of the header
+     * @return the first value, or {@code null} if there is no such header
+     */
+    public String getFirst(String name) {
+        int i = indexOf(name, 0);
+        return i < 0 ? null : getValue(i);
+    }
+
+    /**
+     * Returns {@code true} if there is a header of the given name.
+     *
+     * @param name the name of the header
+     * @return {@code true} if there is a header of that name
+     */
+    public boolean contains(HttpHeaderName name) {
+        return indexOf(name, 0) >= 0;
+    }
+}
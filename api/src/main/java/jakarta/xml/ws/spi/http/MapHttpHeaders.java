@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default implementation of {@link HttpHeaders}, flattening a
+ * {@code Map} of headers into arrays once.
+ * <p>
+ * The case-insensitive hash code of each name is kept, so that a lookup
+ * by {@link HttpHeaderName} compares the names of matching hash codes only.
+ */
+final class MapHttpHeaders extends HttpHeaders {
+
+    static final HttpHeaders EMPTY = new MapHttpHeaders(Collections.emptyMap());
+
+    private final String[] names;
+    private final String[] values;
+    private final int[] hashes;
+    private final int size;
+
+    MapHttpHeaders(Map<String, List<String>> headers) {
+        int n = 0;
+        for (List<String> v : headers.values()) {
+            n += v == null ? 0 : v.size();
+        }
+        names = new String[n];
+        values = new String[n];
+        hashes = new int[n];
+        int i = 0;
+        for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+            if (e.getKey() == null || e.getValue() == null) {
+                continue;
+            }
+            int hash = HttpHeaderName.hash(e.getKey());
+            for (String value : e.getValue()) {
+                names[i] = e.getKey();
+                values[i] = value;
+                hashes[i] = hash;
+                i++;
+            }
+        }
+        size = i;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getName(int index) {
+        return names[checkIndex(index)];
+    }
+
+    @Override
+    public String getValue(int index) {
+        return values[checkIndex(index)];
+    }
+
+    @Override
+    public int indexOf(HttpHeaderName name, int from) {
+        int hash = name.hashCode();
+        for (int i = Math.max(from, 0); i < size; i++) {
+            if (hashes[i] == hash && name.matches(names[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of {@link HttpExchange#getRequestBodyPublisher()},
+ * publishing the request body read from {@link HttpExchange#getRequestBody()}.
+ * <p>
+ * The stream is read in the thread requesting the buffers, so this
+ * publisher blocks whenever the stream does.
+ */
+final class StreamBodyPublisher implements Flow.Publisher<ByteBuffer> {
+
+    static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    StreamBodyPublisher(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The request body can be subscribed to once only"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription(subscriber));
+    }
+
+    private final class Subscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean done;
+        private volatile Throwable abort;
+
+        Subscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                abort = new IllegalArgumentException("Non-positive number of requested buffers: " + n);
+            } else {
+                demand.accumulateAndGet(n, (d, m) -> d + m < 0 ? Long.MAX_VALUE : d + m);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        // reads and publishes buffers in one thread at a time, see request
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!done) {
+                    if (abort != null) {
+                        done = true;
+                        subscriber.onError(abort);
+                        return;
+                    }
+                    if (demand.get() == 0) {
+                        break;
+                    }
+                    byte[] b = new byte[BUFFER_SIZE];
+                    int len;
+                    try {
+                        len = in.read(b);
+                    } catch (IOException e) {
+                        done = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    if (len < 0) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (len > 0) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(ByteBuffer.wrap(b, 0, len));
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
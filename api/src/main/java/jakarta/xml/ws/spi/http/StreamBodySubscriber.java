@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.spi.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Default implementation of {@link HttpExchange#getResponseBodySubscriber()},
+ * writing the response body to {@link HttpExchange#getResponseBody()}.
+ * <p>
+ * Buffers are requested one at a time and written in the thread
+ * publishing them, so this subscriber blocks whenever the stream does.
+ * The first error writing the stream cancels the subscription. That
+ * error, or the error the publisher ended the body with, is reported by
+ * {@link HttpExchange#closeAsync()}.
+ */
+final class StreamBodySubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final OutputStream out;
+    private Flow.Subscription subscription;
+    private byte[] copy;
+    private volatile IOException failure;
+
+    StreamBodySubscriber(OutputStream out) {
+        this.out = out;
+    }
+
+    IOException failure() {
+        return failure;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            write(item);
+        } catch (IOException e) {
+            failure = e;
+            subscription.cancel();
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (failure != null) {
+            return;
+        }
+        // the response is incomplete, closeAsync() must not report success
+        failure = throwable instanceof IOException ? (IOException) throwable
+                : new IOException("Response body publisher failed", throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        if (copy == null) {
+            copy = new byte[StreamBodyPublisher.BUFFER_SIZE];
+        }
+        while (buffer.hasRemaining()) {
+            int len = Math.min(buffer.remaining(), copy.length);
+            buffer.get(copy, 0, len);
+            out.write(copy, 0, len);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -67,6 +67,17 @@
                                           7. Writes the response to HttpExchange
   }</pre>
 
+  <p>
+  Containers with non-blocking I/O may let the runtime read the request and
+  write the response as {@link java.util.concurrent.Flow} streams of
+  {@code ByteBuffer}s, and end the exchange with
+  {@link jakarta.xml.ws.spi.http.HttpExchange#closeAsync()}, see
+  {@link jakarta.xml.ws.spi.http.HttpExchange#isAsyncSupported()}.
+  If the registered handler is an
+  {@link jakarta.xml.ws.spi.http.AsyncHttpHandler}, such containers should
+  invoke {@code handleAsync(HttpExchange)} and release the request thread
+  until the returned {@code CompletionStage} is completed.
+
   <p>
   The portable undeployment is done as below:
   <pre>
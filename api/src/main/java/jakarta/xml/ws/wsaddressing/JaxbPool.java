@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.wsaddressing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.xml.bind.JAXBException;
+
+/**
+ * Bounded pool of {@code Marshaller} or {@code Unmarshaller} instances.
+ * <p>
+ * Instances are taken with {@link #acquire()} and given back with
+ * {@link #release(Object)}. When the pool is empty a new instance is
+ * created; when it is full a released instance is dropped. An instance
+ * which failed while in use should simply not be released.
+ *
+ * @param <T> type of the pooled objects
+ */
+final class JaxbPool<T> {
+
+    /**
+     * Creates new instances for the pool.
+     *
+     * @param <T> type of the created objects
+     */
+    interface Factory<T> {
+        T create() throws JAXBException;
+    }
+
+    private final Factory<T> factory;
+
+    // null when pooling is disabled
+    private final ArrayBlockingQueue<T> pool;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param factory creates pooled instances on demand
+     * @param size maximum number of idle instances kept; {@code 0}
+     *        disables pooling
+     */
+    JaxbPool(Factory<T> factory, int size) {
+        this.factory = factory;
+        this.pool = size > 0 ? new ArrayBlockingQueue<>(size) : null;
+    }
+
+    T acquire() throws JAXBException {
+        T t = pool != null ? pool.poll() : null;
+        if (t != null) {
+            hits.increment();
+            return t;
+        }
+        misses.increment();
+        return factory.create();
+    }
+
+    void release(T t) {
+        if (pool != null) {
+            pool.offer(t);
+        }
+    }
+
+    /**
+     * @return number of {@link #acquire()} calls served from the pool
+     */
+    long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of {@link #acquire()} calls which created a new instance
+     */
+    long misses() {
+        return misses.sum();
+    }
+}
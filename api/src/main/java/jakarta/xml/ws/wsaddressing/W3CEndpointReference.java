@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -17,6 +17,7 @@ import org.w3c.dom.Element;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.XmlAnyAttribute;
 import jakarta.xml.bind.annotation.XmlAnyElement;
 import jakarta.xml.bind.annotation.XmlElement;
@@ -25,11 +26,26 @@ import jakarta.xml.bind.annotation.XmlType;
 import jakarta.xml.bind.annotation.XmlValue;
 import jakarta.xml.ws.EndpointReference;
 import jakarta.xml.ws.WebServiceException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXResult;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
 
 
 
@@ -56,7 +72,32 @@ import javax.xml.transform.Source;
 @XmlType(name="EndpointReferenceType",namespace=W3CEndpointReference.NS)
 public final class W3CEndpointReference extends EndpointReference {
 
-    private final JAXBContext w3cjc = getW3CJaxbContext();
+    // shared by all instances, created on first use, see w3cJaxbContext()
+    private static volatile JAXBContext w3cjc;
+
+    /**
+     * Name of the system property holding the maximum number of idle
+     * marshallers, and separately unmarshallers, kept for reuse.
+     * {@code 0} disables pooling.
+     */
+    private static final String POOL_SIZE_PROPERTY = "jakarta.xml.ws.wsaddressing.W3CEndpointReference.poolSize";
+
+    private static final int POOL_SIZE = AccessController.doPrivileged(
+            (PrivilegedAction<Integer>) () -> Integer.getInteger(POOL_SIZE_PROPERTY,
+                    Runtime.getRuntime().availableProcessors()));
+
+    static final JaxbPool<Marshaller> MARSHALLERS =
+            new JaxbPool<>(() -> w3cJaxbContext().createMarshaller(), POOL_SIZE);
+
+    static final JaxbPool<Unmarshaller> UNMARSHALLERS =
+            new JaxbPool<>(() -> w3cJaxbContext().createUnmarshaller(), POOL_SIZE);
+
+    // serialized form, captured on the first write to a stream; the DOM
+    // elements and attribute maps of an instance are never shared (they
+    // are created by the StAX reader or copied from the unmarshalled
+    // instance, and the accessors return copies), so it never becomes stale
+    private volatile byte[] serialized;
+    private volatile String serializedString;
 
     /**
      * Addressing namespace.
@@ -84,13 +125,18 @@ public final class W3CEndpointReference extends EndpointReference {
      *   If the {@code null} {@code source} value is given
      */
     public W3CEndpointReference(Source source) {
+        if (readStreaming(source)) {
+            return;
+        }
         try {
-            W3CEndpointReference epr = w3cjc.createUnmarshaller().unmarshal(source,W3CEndpointReference.class).getValue();
-            this.address = epr.address;
-            this.metadata = epr.metadata;
-            this.referenceParameters = epr.referenceParameters;
-            this.elements = epr.elements;
-            this.attributes = epr.attributes;
+            Unmarshaller unmarshaller = UNMARSHALLERS.acquire();
+            W3CEndpointReference epr = unmarshaller.unmarshal(source,W3CEndpointReference.class).getValue();
+            UNMARSHALLERS.release(unmarshaller);
+            this.address = copy(epr.address);
+            this.metadata = copy(epr.metadata);
+            this.referenceParameters = copy(epr.referenceParameters);
+            this.elements = copy(epr.elements);
+            this.attributes = copy(epr.attributes);
         } catch (JAXBException e) {
             throw new WebServiceException("Error unmarshalling W3CEndpointReference " ,e);
         } catch (ClassCastException e) {
@@ -98,6 +144,43 @@ public final class W3CEndpointReference extends EndpointReference {
         }
     }
 
+    // stream and StAX sources are read without Jakarta XML Binding
+    private boolean readStreaming(Source source) {
+        XMLStreamReader reader;
+        try {
+            reader = W3CEndpointReferenceStax.createReader(source);
+        } catch (XMLStreamException e) {
+            throw new WebServiceException("Error unmarshalling W3CEndpointReference ", e);
+        }
+        if (reader == null) {
+            return false;
+        }
+        try {
+            W3CEndpointReferenceStax.read(reader, this);
+        } catch (XMLStreamException | RuntimeException e) {
+            WebServiceException wse = new WebServiceException("Error unmarshalling W3CEndpointReference ", e);
+            try {
+                close(source, reader);
+            } catch (XMLStreamException ce) {
+                wse.addSuppressed(ce);
+            }
+            throw wse;
+        }
+        try {
+            close(source, reader);
+        } catch (XMLStreamException e) {
+            throw new WebServiceException("Error unmarshalling W3CEndpointReference ", e);
+        }
+        return true;
+    }
+
+    // a reader created here is closed, a caller supplied one is left open
+    private static void close(Source source, XMLStreamReader reader) throws XMLStreamException {
+        if (!(source instanceof StAXSource)) {
+            reader.close();
+        }
+    }
+
     /**
      * Returns the {@code address} of the {@code W3CEndpointReference} instance's
      * {@code wsa:Address} element.
@@ -119,7 +202,7 @@ public final class W3CEndpointReference extends EndpointReference {
         if (address == null) {
             return null;
         }
-        return address.attributes;
+        return copy(address.attributes);
     }
 
     /**
@@ -134,7 +217,7 @@ public final class W3CEndpointReference extends EndpointReference {
         if (referenceParameters == null) {
             return null;
         }
-        return referenceParameters.elements;
+        return copy(referenceParameters.elements);
     }
 
     /**
@@ -148,7 +231,7 @@ public final class W3CEndpointReference extends EndpointReference {
         if (metadata == null) {
             return null;
         }
-        return metadata.elements;
+        return copy(metadata.elements);
     }
 
     /**
@@ -159,7 +242,7 @@ public final class W3CEndpointReference extends EndpointReference {
      * @return The extension attributes of the {@code W3CEndpointReference}.
      */
     Map<QName,String> getAttributes() {
-        return attributes;
+        return copy(attributes);
     }
 
     /**
@@ -170,19 +253,192 @@ public final class W3CEndpointReference extends EndpointReference {
      * @return Extension {@code element}s of the {@code W3CEndpointReference} instance.
      */
     List<Element> getElements() {
-        return elements;
+        return copy(elements);
     }
 
+    private static Address copy(Address address) {
+        if (address == null) {
+            return null;
+        }
+        Address copy = new Address();
+        copy.uri = address.uri;
+        copy.attributes = copy(address.attributes);
+        return copy;
+    }
+
+    private static Elements copy(Elements elements) {
+        if (elements == null) {
+            return null;
+        }
+        Elements copy = new Elements();
+        copy.elements = copy(elements.elements);
+        copy.attributes = copy(elements.attributes);
+        return copy;
+    }
+
+    private static List<Element> copy(List<Element> elements) {
+        if (elements == null) {
+            return null;
+        }
+        List<Element> copy = new ArrayList<>(elements.size());
+        for (Element e : elements) {
+            copy.add((Element) e.cloneNode(true));
+        }
+        return copy;
+    }
+
+    private static Map<QName,String> copy(Map<QName,String> attributes) {
+        return attributes == null ? null : new HashMap<>(attributes);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The serialized form written to a {@code StreamResult} is computed
+     * once per instance and copied to the stream on subsequent calls.
+     * An instance does not share its elements with the {@code Source}
+     * or builder it was created from, so later changes to those elements
+     * are not reflected in the serialized form.
+     */
     @Override
     public void writeTo(Result result){
+        if (result instanceof StreamResult) {
+            StreamResult sr = (StreamResult) result;
+            OutputStream os = sr.getOutputStream();
+            Writer w = sr.getWriter();
+            try {
+                if (os != null) {
+                    os.write(serialized());
+                    os.flush();
+                    return;
+                }
+                if (w != null) {
+                    w.write(toString());
+                    w.flush();
+                    return;
+                }
+            } catch (IOException e) {
+                throw new WebServiceException("Error marshalling W3CEndpointReference. ", e);
+            }
+        }
+        write(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The string is computed once per instance.
+     */
+    @Override
+    public String toString() {
+        String s = serializedString;
+        if (s == null) {
+            s = new String(serialized(), StandardCharsets.UTF_8);
+            serializedString = s;
+        }
+        return s;
+    }
+
+    private byte[] serialized() {
+        byte[] b = serialized;
+        if (b == null) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+            write(new StreamResult(bos));
+            b = bos.toByteArray();
+            serialized = b;
+        }
+        return b;
+    }
+
+    private void write(Result result) {
+        if (writeStreaming(result)) {
+            return;
+        }
         try {
-            Marshaller marshaller = w3cjc.createMarshaller();
+            Marshaller marshaller = MARSHALLERS.acquire();
             marshaller.marshal(this, result);
+            MARSHALLERS.release(marshaller);
         } catch (JAXBException e) {
             throw new WebServiceException("Error marshalling W3CEndpointReference. ", e);
         }
     }
 
+    // stream and StAX results are written without Jakarta XML Binding
+    private boolean writeStreaming(Result result) {
+        try {
+            XMLStreamWriter writer = W3CEndpointReferenceStax.createWriter(result);
+            if (writer == null) {
+                return false;
+            }
+            W3CEndpointReferenceStax.write(this, writer);
+            if (!(result instanceof StAXResult)) {
+                writer.close();
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            throw new WebServiceException("Error marshalling W3CEndpointReference. ", e);
+        }
+    }
+
+    /**
+     * Creates the {@code JAXBContext} used to read and write
+     * {@code W3CEndpointReference} instances, unless it has already
+     * been created. The context is shared by all instances and is
+     * otherwise created when the first instance is read or written;
+     * applications may call this method at startup to take that cost
+     * out of the first request.
+     *
+     * @throws WebServiceException If the {@code JAXBContext} cannot be created.
+     *
+     * @since 4.0.3
+     */
+    public static void initializeJAXBContext() {
+        w3cJaxbContext();
+    }
+
+    /**
+     * Returns the number of marshallers and unmarshallers which were
+     * reused from the pools shared by all instances, see the
+     * {@code jakarta.xml.ws.wsaddressing.W3CEndpointReference.poolSize}
+     * system property.
+     *
+     * @return The number of pooled instances reused so far.
+     *
+     * @since 4.0.3
+     */
+    public static long getPoolHitCount() {
+        return MARSHALLERS.hits() + UNMARSHALLERS.hits();
+    }
+
+    /**
+     * Returns the number of marshallers and unmarshallers which were
+     * created because none was available in the pools shared by all
+     * instances. A miss count growing with the hit count suggests that
+     * the pool size is too small for the concurrency of the application.
+     *
+     * @return The number of instances created so far.
+     *
+     * @since 4.0.3
+     */
+    public static long getPoolMissCount() {
+        return MARSHALLERS.misses() + UNMARSHALLERS.misses();
+    }
+
+    private static JAXBContext w3cJaxbContext() {
+        JAXBContext jc = w3cjc;
+        if (jc == null) {
+            synchronized (W3CEndpointReference.class) {
+                jc = w3cjc;
+                if (jc == null) {
+                    // not cached on failure, the next call tries again
+                    jc = getW3CJaxbContext();
+                    w3cjc = jc;
+                }
+            }
+        }
+        return jc;
+    }
+
     private static JAXBContext getW3CJaxbContext() {
         try {
             return JAXBContext.newInstance(W3CEndpointReference.class);
@@ -191,13 +447,14 @@ public final class W3CEndpointReference extends EndpointReference {
         }
     }
 
-    // private but necessary properties for databinding
+    // necessary properties for databinding, not private as
+    // W3CEndpointReferenceStax reads and writes them as well
     @XmlElement(name="Address",namespace=NS)
-    private Address address;
+    Address address;
     @XmlElement(name="ReferenceParameters",namespace=NS)
-    private Elements referenceParameters;
+    Elements referenceParameters;
     @XmlElement(name="Metadata",namespace=NS)
-    private Elements metadata;
+    Elements metadata;
     // attributes and elements are not private for performance reasons
     // (JAXB can bypass reflection)
     @XmlAnyAttribute
@@ -207,7 +464,7 @@ public final class W3CEndpointReference extends EndpointReference {
 
 
     @XmlType(name="address", namespace=W3CEndpointReference.NS)
-    private static class Address {
+    static class Address {
         protected Address() {}
         @XmlValue
         String uri;
@@ -217,7 +474,7 @@ public final class W3CEndpointReference extends EndpointReference {
 
 
     @XmlType(name="elements", namespace=W3CEndpointReference.NS)
-    private static class Elements {
+    static class Elements {
         protected Elements() {}
         @XmlAnyElement
         List<Element> elements;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2005, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2005, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -317,9 +317,18 @@ public final class W3CEndpointReferenceBuilder {
      *     </ul>
      * @throws WebServiceException If an error occurs while creating the 
      *                             {@code W3CEndpointReference}.
-     *       
+     *
+     * @see W3CEndpointReferenceCache
      */
     public W3CEndpointReference build() {
+        return build(address, interfaceName, serviceName, endpointName,
+                wsdlDocumentLocation, referenceParameters, metadata, elements, attributes);
+    }
+
+    static W3CEndpointReference build(String address, QName interfaceName,
+            QName serviceName, QName endpointName, String wsdlDocumentLocation,
+            List<Element> referenceParameters, List<Element> metadata,
+            List<Element> elements, Map<QName,String> attributes) {
         if (elements.isEmpty() && attributes.isEmpty() && interfaceName == null) {
             // 2.1 API
             return Provider.provider().createW3CEndpointReference(address,
@@ -330,6 +339,16 @@ public final class W3CEndpointReferenceBuilder {
                 interfaceName, serviceName, endpointName, metadata, wsdlDocumentLocation,
                 referenceParameters, elements, attributes);
     }
+
+    /**
+     * Returns the properties set on this builder as a
+     * {@link W3CEndpointReferenceCache} key. The key is backed by this
+     * builder and must be copied before it is stored.
+     */
+    W3CEndpointReferenceCache.Key key() {
+        return new W3CEndpointReferenceCache.Key(address, interfaceName, serviceName, endpointName,
+                wsdlDocumentLocation, referenceParameters, metadata, elements, attributes);
+    }
     
     private String address;
     private List<Element> referenceParameters;
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.wsaddressing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.ws.WebServiceException;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * A bounded cache of {@code W3CEndpointReference} instances, keyed by
+ * the properties of a {@link W3CEndpointReferenceBuilder}.
+ * <p>
+ * Applications which repeatedly build the same endpoint references, for
+ * example for WS-Addressing {@code ReplyTo} headers of callbacks, can use
+ * {@link #get(W3CEndpointReferenceBuilder)} in place of
+ * {@link W3CEndpointReferenceBuilder#build()} to share one instance per
+ * distinct set of properties. Reference parameters, metadata and extension
+ * elements are compared with {@link Node#isEqualNode(Node)}.
+ * <p>
+ * The elements set on the builder are copied before being cached, so later
+ * changes to them do not affect cached instances. The returned instances
+ * are shared and MUST be treated as immutable.
+ * <p>
+ * When the cache is full, the least recently used instance is evicted.
+ * Instances of this class are safe for use by multiple threads.
+ *
+ * @since 4.0.3
+ */
+public final class W3CEndpointReferenceCache {
+
+    private final Map<Key, W3CEndpointReference> cache;
+
+    /**
+     * Creates a new {@code W3CEndpointReferenceCache} instance.
+     *
+     * @param maxSize The maximum number of cached instances.
+     *
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    public W3CEndpointReferenceCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maxSize must be positive: " + maxSize);
+        }
+        this.cache = new LinkedHashMap<Key, W3CEndpointReference>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, W3CEndpointReference> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@code W3CEndpointReference} for the properties
+     * currently set on {@code builder}, building and caching it if there
+     * is none yet.
+     *
+     * @param builder The builder holding the properties of the
+     *        endpoint reference.
+     *
+     * @return {@code W3CEndpointReference} for the properties of {@code builder}.
+     * This method never returns {@code null}.
+     *
+     * @throws IllegalStateException If {@link W3CEndpointReferenceBuilder#build()}
+     *         would throw it.
+     * @throws WebServiceException If an error occurs while creating the
+     *         {@code W3CEndpointReference}.
+     * @throws NullPointerException If {@code builder} is {@code null}.
+     */
+    public W3CEndpointReference get(W3CEndpointReferenceBuilder builder) {
+        Key key = builder.key();
+        synchronized (cache) {
+            W3CEndpointReference epr = cache.get(key);
+            if (epr != null) {
+                return epr;
+            }
+        }
+        // build outside of the lock from a private copy of the properties
+        Key copy = key.copy();
+        W3CEndpointReference epr = copy.build();
+        synchronized (cache) {
+            W3CEndpointReference cached = cache.putIfAbsent(copy, epr);
+            return cached != null ? cached : epr;
+        }
+    }
+
+    /**
+     * Returns the number of cached instances.
+     *
+     * @return The number of cached instances.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cached instances.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Properties of a {@code W3CEndpointReferenceBuilder}.
+     */
+    static final class Key {
+
+        private final String address;
+        private final QName interfaceName;
+        private final QName serviceName;
+        private final QName endpointName;
+        private final String wsdlDocumentLocation;
+        private final List<Element> referenceParameters;
+        private final List<Element> metadata;
+        private final List<Element> elements;
+        private final Map<QName, String> attributes;
+        private final int hash;
+
+        Key(String address, QName interfaceName, QName serviceName, QName endpointName,
+            String wsdlDocumentLocation, List<Element> referenceParameters, List<Element> metadata,
+            List<Element> elements, Map<QName, String> attributes) {
+            this.address = address;
+            this.interfaceName = interfaceName;
+            this.serviceName = serviceName;
+            this.endpointName = endpointName;
+            this.wsdlDocumentLocation = wsdlDocumentLocation;
+            this.referenceParameters = referenceParameters;
+            this.metadata = metadata;
+            this.elements = elements;
+            this.attributes = attributes;
+            int h = Objects.hash(address, interfaceName, serviceName, endpointName,
+                    wsdlDocumentLocation, attributes);
+            h = 31 * h + hash(referenceParameters);
+            h = 31 * h + hash(metadata);
+            h = 31 * h + hash(elements);
+            this.hash = h;
+        }
+
+        Key copy() {
+            return new Key(address, interfaceName, serviceName, endpointName, wsdlDocumentLocation,
+                    copy(referenceParameters), copy(metadata), copy(elements),
+                    Collections.unmodifiableMap(new HashMap<>(attributes)));
+        }
+
+        W3CEndpointReference build() {
+            return W3CEndpointReferenceBuilder.build(address, interfaceName, serviceName, endpointName,
+                    wsdlDocumentLocation, referenceParameters, metadata, elements, attributes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return hash == k.hash
+                    && Objects.equals(address, k.address)
+                    && Objects.equals(interfaceName, k.interfaceName)
+                    && Objects.equals(serviceName, k.serviceName)
+                    && Objects.equals(endpointName, k.endpointName)
+                    && Objects.equals(wsdlDocumentLocation, k.wsdlDocumentLocation)
+                    && attributes.equals(k.attributes)
+                    && equal(referenceParameters, k.referenceParameters)
+                    && equal(metadata, k.metadata)
+                    && equal(elements, k.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static List<Element> copy(List<Element> elements) {
+            List<Element> copy = new ArrayList<>(elements.size());
+            for (Element e : elements) {
+                copy.add((Element) e.cloneNode(true));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+
+        private static boolean equal(List<Element> l1, List<Element> l2) {
+            if (l1.size() != l2.size()) {
+                return false;
+            }
+            for (int i = 0; i < l1.size(); i++) {
+                if (!l1.get(i).isEqualNode(l2.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int hash(List<Element> elements) {
+            int h = 1;
+            for (Element e : elements) {
+                h = 31 * h + hash(e);
+            }
+            return h;
+        }
+
+        // consistent with Node.isEqualNode
+        private static int hash(Node n) {
+            int h = n.getNodeType();
+            h = 31 * h + Objects.hashCode(n.getLocalName() != null ? n.getLocalName() : n.getNodeName());
+            h = 31 * h + Objects.hashCode(n.getNamespaceURI());
+            h = 31 * h + Objects.hashCode(n.getNodeValue());
+            NamedNodeMap attrs = n.getAttributes();
+            if (attrs != null) {
+                int ah = 0;
+                for (int i = 0; i < attrs.getLength(); i++) {
+                    // attributes are unordered
+                    ah += hash(attrs.item(i));
+                }
+                h = 31 * h + ah;
+            }
+            for (Node c = n.getFirstChild(); c != null; c = c.getNextSibling()) {
+                h = 31 * h + hash(c);
+            }
+            return h;
+        }
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.ws.wsaddressing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXResult;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.ws.internal.XmlSupport;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Reads and writes {@link W3CEndpointReference} with StAX, without going
+ * through Jakarta XML Binding.
+ * <p>
+ * The schema of an endpoint reference is small and fixed, so it is mapped
+ * by hand to the same fields Jakarta XML Binding would fill. Only stream
+ * and StAX sources and results are handled here, {@link #createReader(Source)}
+ * and {@link #createWriter(Result)} return {@code null} for anything else and
+ * the caller falls back to Jakarta XML Binding.
+ */
+final class W3CEndpointReferenceStax {
+
+    /**
+     * Name of the system property which, when set to {@code true}, makes
+     * {@code W3CEndpointReference} always use Jakarta XML Binding.
+     */
+    private static final String DISABLE_PROPERTY = "jakarta.xml.ws.wsaddressing.W3CEndpointReference.disableStreaming";
+
+    static final boolean DISABLED = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean(DISABLE_PROPERTY));
+
+    private static final String ADDRESS = "Address";
+    private static final String REFERENCE_PARAMETERS = "ReferenceParameters";
+    private static final String METADATA = "Metadata";
+    private static final String ENDPOINT_REFERENCE = "EndpointReference";
+
+    // a prefixed QName, possibly surrounded by whitespace
+    private static final Pattern QNAME = Pattern.compile("\\s*([\\p{L}_][\\p{L}\\p{N}_.\\-]*):[\\p{L}_][\\p{L}\\p{N}_.\\-]*\\s*");
+
+    private W3CEndpointReferenceStax() {
+    }
+
+    /**
+     * Creates a reader over the given source.
+     *
+     * @param source the source to read
+     * @return the reader or {@code null} if the source is not supported
+     * @throws XMLStreamException if the reader cannot be created
+     */
+    static XMLStreamReader createReader(Source source) throws XMLStreamException {
+        if (DISABLED) {
+            return null;
+        }
+        if (source instanceof StAXSource) {
+            // null when the source wraps an XMLEventReader
+            return ((StAXSource) source).getXMLStreamReader();
+        }
+        if (source instanceof StreamSource) {
+            StreamSource ss = (StreamSource) source;
+            if (ss.getInputStream() != null) {
+                return XmlSupport.COALESCING_INPUT.createXMLStreamReader(ss.getSystemId(), ss.getInputStream());
+            }
+            if (ss.getReader() != null) {
+                return XmlSupport.COALESCING_INPUT.createXMLStreamReader(ss.getSystemId(), ss.getReader());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a writer to the given result.
+     *
+     * @param result the result to write to
+     * @return the writer or {@code null} if the result is not supported
+     * @throws XMLStreamException if the writer cannot be created
+     */
+    static XMLStreamWriter createWriter(Result result) throws XMLStreamException {
+        if (DISABLED) {
+            return null;
+        }
+        if (result instanceof StAXResult) {
+            // null when the result wraps an XMLEventWriter
+            return ((StAXResult) result).getXMLStreamWriter();
+        }
+        if (result instanceof StreamResult) {
+            StreamResult sr = (StreamResult) result;
+            if (sr.getOutputStream() != null) {
+                return XmlSupport.OUTPUT.createXMLStreamWriter(sr.getOutputStream(), StandardCharsets.UTF_8.name());
+            }
+            if (sr.getWriter() != null) {
+                return XmlSupport.OUTPUT.createXMLStreamWriter(sr.getWriter());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the first element of {@code r} into {@code epr}. Like Jakarta
+     * XML Binding with a declared type, the name of that element is not
+     * checked, so {@code wsa:ReplyTo} and friends can be read as well.
+     * <p>
+     * Also like Jakarta XML Binding, {@code r} is left on the event
+     * following the end of that element, so that the caller can keep
+     * reading the rest of the document.
+     */
+    static void read(XMLStreamReader r, W3CEndpointReference epr) throws XMLStreamException {
+        while (r.getEventType() != XMLStreamConstants.START_ELEMENT) {
+            r.next();
+        }
+        Map<String, String> scope = new LinkedHashMap<>();
+        declareNamespaces(r, scope);
+        epr.attributes = readAttributes(r);
+
+        Document doc = null;
+        while (skipToTag(r) == XMLStreamConstants.START_ELEMENT) {
+            if (W3CEndpointReference.NS.equals(r.getNamespaceURI())) {
+                switch (r.getLocalName()) {
+                    case ADDRESS:
+                        W3CEndpointReference.Address address = new W3CEndpointReference.Address();
+                        address.attributes = readAttributes(r);
+                        address.uri = r.getElementText();
+                        epr.address = address;
+                        continue;
+                    case REFERENCE_PARAMETERS:
+                        if (doc == null) doc = XmlSupport.DOM.createDocument(null, null, null);
+                        epr.referenceParameters = readElements(r, doc, scope);
+                        continue;
+                    case METADATA:
+                        if (doc == null) doc = XmlSupport.DOM.createDocument(null, null, null);
+                        epr.metadata = readElements(r, doc, scope);
+                        continue;
+                    default:
+                        break;
+                }
+            }
+            if (doc == null) doc = XmlSupport.DOM.createDocument(null, null, null);
+            if (epr.elements == null) {
+                epr.elements = new ArrayList<>();
+            }
+            epr.elements.add(readElement(r, doc, scope));
+        }
+        if (r.hasNext()) {
+            r.next();
+        }
+    }
+
+    private static W3CEndpointReference.Elements readElements(XMLStreamReader r, Document doc,
+                                                              Map<String, String> parentScope) throws XMLStreamException {
+        W3CEndpointReference.Elements elements = new W3CEndpointReference.Elements();
+        elements.attributes = readAttributes(r);
+        Map<String, String> scope = parentScope;
+        if (r.getNamespaceCount() > 0) {
+            scope = new LinkedHashMap<>(parentScope);
+            declareNamespaces(r, scope);
+        }
+        while (skipToTag(r) == XMLStreamConstants.START_ELEMENT) {
+            if (elements.elements == null) {
+                elements.elements = new ArrayList<>();
+            }
+            elements.elements.add(readElement(r, doc, scope));
+        }
+        return elements;
+    }
+
+    // like nextTag(), but ignores non whitespace text as Jakarta XML Binding does
+    private static int skipToTag(XMLStreamReader r) throws XMLStreamException {
+        int event;
+        do {
+            event = r.next();
+        } while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT);
+        return event;
+    }
+
+    private static void declareNamespaces(XMLStreamReader r, Map<String, String> scope) {
+        for (int i = 0; i < r.getNamespaceCount(); i++) {
+            scope.put(nullToEmpty(r.getNamespacePrefix(i)), nullToEmpty(r.getNamespaceURI(i)));
+        }
+    }
+
+    private static Map<QName, String> readAttributes(XMLStreamReader r) {
+        int count = r.getAttributeCount();
+        if (count == 0) {
+            return null;
+        }
+        Map<QName, String> attributes = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            attributes.put(r.getAttributeName(i), r.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads the current element into a DOM element. Namespaces in scope
+     * of the element are declared on it, so that QName valued content
+     * stays resolvable once the element is detached from its ancestors.
+     * <p>
+     * The endpoint reference may be read from the middle of a document,
+     * for example a {@code wsa:ReplyTo} header, whose ancestors declare
+     * more namespaces than {@code scope} knows. StAX cannot list the
+     * bindings in scope, so the prefixes of QName like text and attribute
+     * values which are not declared within the element are looked up in
+     * the namespace context of the reader instead.
+     */
+    private static Element readElement(XMLStreamReader r, Document doc,
+                                       Map<String, String> scope) throws XMLStreamException {
+        Element e = createElement(r, doc);
+        for (Map.Entry<String, String> ns : scope.entrySet()) {
+            String name = ns.getKey().isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE
+                    : XMLConstants.XMLNS_ATTRIBUTE + ':' + ns.getKey();
+            if (!e.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, localXmlnsName(ns.getKey()))) {
+                e.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, name, ns.getValue());
+            }
+        }
+        readContent(r, doc, e);
+        // still in scope on the END_ELEMENT event
+        declareUsedPrefixes(e, e, r.getNamespaceContext());
+        return e;
+    }
+
+    private static void declareUsedPrefixes(Element root, Node n, NamespaceContext nc) {
+        NamedNodeMap attrs = n.getAttributes();
+        if (attrs != null) {
+            for (int i = 0; i < attrs.getLength(); i++) {
+                Node a = attrs.item(i);
+                if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(a.getNamespaceURI())) {
+                    declareUsedPrefix(root, n, a.getNodeValue(), nc);
+                }
+            }
+        }
+        for (Node c = n.getFirstChild(); c != null; c = c.getNextSibling()) {
+            if (c.getNodeType() == Node.TEXT_NODE || c.getNodeType() == Node.CDATA_SECTION_NODE) {
+                declareUsedPrefix(root, n, c.getNodeValue(), nc);
+            } else if (c.getNodeType() == Node.ELEMENT_NODE) {
+                declareUsedPrefixes(root, c, nc);
+            }
+        }
+    }
+
+    private static void declareUsedPrefix(Element root, Node context, String value, NamespaceContext nc) {
+        Matcher m = QNAME.matcher(value);
+        if (!m.matches()) {
+            return;
+        }
+        String prefix = m.group(1);
+        if (context.lookupNamespaceURI(prefix) != null) {
+            return;
+        }
+        String ns = nc.getNamespaceURI(prefix);
+        if (ns != null && !ns.isEmpty()) {
+            root.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, XMLConstants.XMLNS_ATTRIBUTE + ':' + prefix, ns);
+        }
+    }
+
+    private static Element createElement(XMLStreamReader r, Document doc) {
+        String ns = r.getNamespaceURI();
+        String prefix = r.getPrefix();
+        String qname = prefix == null || prefix.isEmpty() ? r.getLocalName() : prefix + ':' + r.getLocalName();
+        Element e = doc.createElementNS(ns == null || ns.isEmpty() ? null : ns, qname);
+        for (int i = 0; i < r.getNamespaceCount(); i++) {
+            String p = r.getNamespacePrefix(i);
+            String name = p == null || p.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE
+                    : XMLConstants.XMLNS_ATTRIBUTE + ':' + p;
+            e.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, name, nullToEmpty(r.getNamespaceURI(i)));
+        }
+        for (int i = 0; i < r.getAttributeCount(); i++) {
+            String ans = r.getAttributeNamespace(i);
+            String ap = r.getAttributePrefix(i);
+            String an = ap == null || ap.isEmpty() ? r.getAttributeLocalName(i) : ap + ':' + r.getAttributeLocalName(i);
+            e.setAttributeNS(ans == null || ans.isEmpty() ? null : ans, an, r.getAttributeValue(i));
+        }
+        return e;
+    }
+
+    private static void readContent(XMLStreamReader r, Document doc, Element parent) throws XMLStreamException {
+        while (true) {
+            switch (r.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    Element child = createElement(r, doc);
+                    parent.appendChild(child);
+                    readContent(r, doc, child);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    parent.appendChild(doc.createTextNode(r.getText()));
+                    break;
+                case XMLStreamConstants.CDATA:
+                    parent.appendChild(doc.createCDATASection(r.getText()));
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    parent.appendChild(doc.createComment(r.getText()));
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    parent.appendChild(doc.createProcessingInstruction(r.getPITarget(), r.getPIData()));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code epr} as a complete document, in the same shape as
+     * Jakarta XML Binding does.
+     * <p>
+     * Namespace bindings are tracked here rather than asked from the
+     * writer, as not all writers report the default namespace.
+     */
+    static void write(W3CEndpointReference epr, XMLStreamWriter w) throws XMLStreamException {
+        Map<String, String> scope = new HashMap<>();
+        w.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        w.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, ENDPOINT_REFERENCE, W3CEndpointReference.NS);
+        w.writeDefaultNamespace(W3CEndpointReference.NS);
+        scope.put(XMLConstants.DEFAULT_NS_PREFIX, W3CEndpointReference.NS);
+        scope = writeAttributes(w, epr.attributes, scope);
+        if (epr.address != null) {
+            w.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, ADDRESS, W3CEndpointReference.NS);
+            writeAttributes(w, epr.address.attributes, scope);
+            if (epr.address.uri != null) {
+                w.writeCharacters(epr.address.uri);
+            }
+            w.writeEndElement();
+        }
+        writeElements(w, REFERENCE_PARAMETERS, epr.referenceParameters, scope);
+        writeElements(w, METADATA, epr.metadata, scope);
+        if (epr.elements != null) {
+            for (Element e : epr.elements) {
+                writeElement(w, e, scope);
+            }
+        }
+        w.writeEndElement();
+        w.writeEndDocument();
+        w.flush();
+    }
+
+    private static void writeElements(XMLStreamWriter w, String localName,
+                                      W3CEndpointReference.Elements elements,
+                                      Map<String, String> parentScope) throws XMLStreamException {
+        if (elements == null) {
+            return;
+        }
+        w.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, localName, W3CEndpointReference.NS);
+        Map<String, String> scope = writeAttributes(w, elements.attributes, parentScope);
+        if (elements.elements != null) {
+            for (Element e : elements.elements) {
+                writeElement(w, e, scope);
+            }
+        }
+        w.writeEndElement();
+    }
+
+    private static Map<String, String> writeAttributes(XMLStreamWriter w, Map<QName, String> attributes,
+                                                       Map<String, String> scope) throws XMLStreamException {
+        if (attributes == null) {
+            return scope;
+        }
+        Map<String, String> s = scope;
+        for (Map.Entry<QName, String> a : attributes.entrySet()) {
+            QName name = a.getKey();
+            String ns = name.getNamespaceURI();
+            if (ns.isEmpty()) {
+                w.writeAttribute(name.getLocalPart(), a.getValue());
+            } else {
+                String prefix = prefixFor(s, name.getPrefix(), ns);
+                if (!ns.equals(s.get(prefix))) {
+                    s = declare(w, s, scope, prefix, ns);
+                }
+                w.writeAttribute(prefix, ns, name.getLocalPart(), a.getValue());
+            }
+        }
+        return s;
+    }
+
+    private static void writeElement(XMLStreamWriter w, Element e,
+                                     Map<String, String> parentScope) throws XMLStreamException {
+        String ns = nullToEmpty(e.getNamespaceURI());
+        String prefix = nullToEmpty(e.getPrefix());
+        String localName = e.getLocalName() != null ? e.getLocalName() : e.getTagName();
+        w.writeStartElement(prefix, localName, ns);
+        Map<String, String> scope = parentScope;
+
+        NamedNodeMap attrs = e.getAttributes();
+        List<Attr> plain = null;
+        for (int i = 0; i < attrs.getLength(); i++) {
+            Attr a = (Attr) attrs.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(a.getNamespaceURI())) {
+                String p = a.getPrefix() == null ? XMLConstants.DEFAULT_NS_PREFIX : a.getLocalName();
+                scope = declare(w, scope, parentScope, p, a.getValue());
+            } else {
+                if (plain == null) {
+                    plain = new ArrayList<>(attrs.getLength());
+                }
+                plain.add(a);
+            }
+        }
+        if (!ns.equals(nullToEmpty(scope.get(prefix)))) {
+            scope = declare(w, scope, parentScope, prefix, ns);
+        }
+        if (plain != null) {
+            for (Attr a : plain) {
+                String ans = a.getNamespaceURI();
+                String aname = a.getLocalName() != null ? a.getLocalName() : a.getName();
+                if (ans == null || ans.isEmpty()) {
+                    w.writeAttribute(aname, a.getValue());
+                } else {
+                    String ap = prefixFor(scope, a.getPrefix(), ans);
+                    if (!ans.equals(scope.get(ap))) {
+                        scope = declare(w, scope, parentScope, ap, ans);
+                    }
+                    w.writeAttribute(ap, ans, aname, a.getValue());
+                }
+            }
+        }
+
+        for (Node n = e.getFirstChild(); n != null; n = n.getNextSibling()) {
+            writeNode(w, n, scope);
+        }
+        w.writeEndElement();
+    }
+
+    private static void writeNode(XMLStreamWriter w, Node n, Map<String, String> scope) throws XMLStreamException {
+        switch (n.getNodeType()) {
+            case Node.ELEMENT_NODE:
+                writeElement(w, (Element) n, scope);
+                break;
+            case Node.TEXT_NODE:
+                w.writeCharacters(n.getNodeValue());
+                break;
+            case Node.CDATA_SECTION_NODE:
+                w.writeCData(n.getNodeValue());
+                break;
+            case Node.COMMENT_NODE:
+                w.writeComment(n.getNodeValue());
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                w.writeProcessingInstruction(n.getNodeName(), n.getNodeValue());
+                break;
+            case Node.ENTITY_REFERENCE_NODE:
+                for (Node c = n.getFirstChild(); c != null; c = c.getNextSibling()) {
+                    writeNode(w, c, scope);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // writes a namespace declaration, copying the scope of the parent before changing it
+    private static Map<String, String> declare(XMLStreamWriter w, Map<String, String> scope,
+                                               Map<String, String> parentScope,
+                                               String prefix, String ns) throws XMLStreamException {
+        if (prefix.isEmpty()) {
+            w.writeDefaultNamespace(ns);
+        } else {
+            w.writeNamespace(prefix, ns);
+        }
+        Map<String, String> s = scope == parentScope ? new HashMap<>(parentScope) : scope;
+        s.put(prefix, ns);
+        return s;
+    }
+
+    // a non empty prefix for ns, preferring the given one
+    private static String prefixFor(Map<String, String> scope, String prefix, String ns) {
+        if (prefix != null && !prefix.isEmpty()) {
+            return prefix;
+        }
+        for (Map.Entry<String, String> e : scope.entrySet()) {
+            if (!e.getKey().isEmpty() && ns.equals(e.getValue())) {
+                return e.getKey();
+            }
+        }
+        int i = 0;
+        String p;
+        do {
+            p = "ns" + ++i;
+        } while (scope.containsKey(p));
+        return p;
+    }
+
+    private static String localXmlnsName(String prefix) {
+        return prefix.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE : prefix;
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
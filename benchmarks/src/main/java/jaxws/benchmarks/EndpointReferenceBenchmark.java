@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.ws.wsaddressing.W3CEndpointReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.w3c.dom.Document;
+
+/**
+ * Cost of reading and writing a typical WS-Addressing ReplyTo
+ * {@link W3CEndpointReference}.
+ * <p>
+ * Stream sources and results are handled by the StAX code path,
+ * see {@link EndpointReferenceJaxbBenchmark} for the same benchmarks
+ * going through Jakarta XML Binding.
+ * <p>
+ * An instance serializes itself once, {@code writeTo} and {@code toString}
+ * measure copying that serialized form; {@code readWriteTo} measures
+ * a complete round trip through a new instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndpointReferenceBenchmark {
+
+    static final byte[] EPR = ("<wsa:EndpointReference xmlns:wsa=\"http://www.w3.org/2005/08/addressing\">"
+            + "<wsa:Address>http://localhost:8080/callback/ReplyService</wsa:Address>"
+            + "<wsa:ReferenceParameters>"
+            + "<ref:ConversationId xmlns:ref=\"urn:benchmarks\">9f1b6c52-3a57-4c3e-a0d4-2c5f3f0e8b11</ref:ConversationId>"
+            + "</wsa:ReferenceParameters>"
+            + "<wsa:Metadata>"
+            + "<wsam:ServiceName xmlns:wsam=\"http://www.w3.org/2007/05/addressing/metadata\""
+            + " xmlns:svc=\"urn:benchmarks\" EndpointName=\"svc:ReplyPort\">svc:ReplyService</wsam:ServiceName>"
+            + "</wsa:Metadata>"
+            + "</wsa:EndpointReference>").getBytes(StandardCharsets.UTF_8);
+
+    private W3CEndpointReference epr;
+
+    private ByteArrayOutputStream out;
+
+    private Document dom;
+
+    @Setup
+    public void setup() throws Exception {
+        epr = read();
+        out = new ByteArrayOutputStream(1024);
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        dom = dbf.newDocumentBuilder().parse(new ByteArrayInputStream(EPR));
+    }
+
+    @Benchmark
+    public W3CEndpointReference read() {
+        return new W3CEndpointReference(new StreamSource(new ByteArrayInputStream(EPR)));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public W3CEndpointReference readContended() {
+        return read();
+    }
+
+    @Benchmark
+    public W3CEndpointReference readDom() {
+        // DOM sources always go through Jakarta XML Binding
+        return new W3CEndpointReference(new DOMSource(dom));
+    }
+
+    @Benchmark
+    public int writeTo() {
+        out.reset();
+        epr.writeTo(new StreamResult(out));
+        return out.size();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int writeToContended() {
+        return writeTo();
+    }
+
+    @Benchmark
+    public int readWriteTo() {
+        out.reset();
+        read().writeTo(new StreamResult(out));
+        return out.size();
+    }
+
+    @Benchmark
+    public String toStringEpr() {
+        return epr.toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String toStringEprContended() {
+        return epr.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package jaxws.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import jakarta.xml.ws.wsaddressing.W3CEndpointReference;
+import jakarta.xml.ws.wsaddressing.W3CEndpointReferenceBuilder;
+import jakarta.xml.ws.wsaddressing.W3CEndpointReferenceCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Cost of building a callback {@link W3CEndpointReference} with and
+ * without a {@link W3CEndpointReferenceCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointReferenceBuilderBenchmark {
+
+    private final W3CEndpointReferenceCache cache = new W3CEndpointReferenceCache(256);
+
+    private Element conversationId;
+
+    @Setup
+    public void setup() throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        Document doc = dbf.newDocumentBuilder().newDocument();
+        conversationId = doc.createElementNS("urn:benchmarks", "ref:ConversationId");
+        conversationId.setTextContent("9f1b6c52-3a57-4c3e-a0d4-2c5f3f0e8b11");
+    }
+
+    private W3CEndpointReferenceBuilder builder() {
+        return new W3CEndpointReferenceBuilder()
+                .address("http://localhost:8080/callback/ReplyService")
+                .referenceParameter(conversationId);
+    }
+
+    @Benchmark
+    public W3CEndpointReference build() {
+        return builder().build();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public W3CEndpointReference buildContended() {
+        return builder().build();
+    }
+
+    @Benchmark
+    public W3CEndpointReference cached() {
+        return cache.get(builder());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public W3CEndpointReference cachedContended() {
+        return cache.get(builder());
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link EndpointReferenceBenchmark} with the StAX code path of
+ * {@code W3CEndpointReference} disabled, so that every benchmark
+ * goes through Jakarta XML Binding.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Djakarta.xml.ws.wsaddressing.W3CEndpointReference.disableStreaming=true")
+public class EndpointReferenceJaxbBenchmark extends EndpointReferenceBenchmark {
+}
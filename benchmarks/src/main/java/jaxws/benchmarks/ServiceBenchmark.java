@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.ws.Endpoint;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.soap.SOAPBinding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating client side {@link Service} and server side {@link Endpoint}
+ * objects, both of which go through provider discovery.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final QName SERVICE_NAME = new QName("urn:benchmarks", "BenchmarkService");
+
+    private static final Object IMPLEMENTOR = new Object();
+
+    @Benchmark
+    public Service serviceCreate() {
+        return Service.create(SERVICE_NAME);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Service serviceCreateContended() {
+        return Service.create(SERVICE_NAME);
+    }
+
+    @Benchmark
+    public Endpoint endpointCreate() {
+        return Endpoint.create(SOAPBinding.SOAP11HTTP_BINDING, IMPLEMENTOR);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Endpoint endpointCreateContended() {
+        return Endpoint.create(SOAPBinding.SOAP11HTTP_BINDING, IMPLEMENTOR);
+    }
+}
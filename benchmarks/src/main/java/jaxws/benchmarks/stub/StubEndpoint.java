@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks.stub;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import javax.xml.transform.Source;
+
+import jakarta.xml.ws.Binding;
+import jakarta.xml.ws.Endpoint;
+import jakarta.xml.ws.EndpointReference;
+
+import org.w3c.dom.Element;
+
+/**
+ * Endpoint which only keeps the state set on it.
+ */
+class StubEndpoint extends Endpoint {
+
+    private final Object implementor;
+    private List<Source> metadata = Collections.emptyList();
+    private Map<String, Object> properties = Collections.emptyMap();
+    private Executor executor;
+    private boolean published;
+
+    StubEndpoint(Object implementor) {
+        this.implementor = implementor;
+    }
+
+    @Override
+    public Binding getBinding() {
+        return null;
+    }
+
+    @Override
+    public Object getImplementor() {
+        return implementor;
+    }
+
+    @Override
+    public void publish(String address) {
+        published = true;
+    }
+
+    @Override
+    public void publish(Object serverContext) {
+        published = true;
+    }
+
+    @Override
+    public void stop() {
+        published = false;
+    }
+
+    @Override
+    public boolean isPublished() {
+        return published;
+    }
+
+    @Override
+    public List<Source> getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public void setMetadata(List<Source> metadata) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public void setProperties(Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public EndpointReference getEndpointReference(Element... referenceParameters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T extends EndpointReference> T getEndpointReference(Class<T> clazz, Element... referenceParameters) {
+        throw new UnsupportedOperationException();
+    }
+}
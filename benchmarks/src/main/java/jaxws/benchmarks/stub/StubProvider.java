@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks.stub;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.ws.Endpoint;
+import jakarta.xml.ws.EndpointReference;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.WebServiceFeature;
+import jakarta.xml.ws.spi.Provider;
+import jakarta.xml.ws.spi.ServiceDelegate;
+import jakarta.xml.ws.wsaddressing.W3CEndpointReference;
+
+import org.w3c.dom.Element;
+
+/**
+ * Provider doing as little work as possible, so that benchmarks
+ * measure the API rather than an implementation.
+ */
+public class StubProvider extends Provider {
+
+    public StubProvider() {
+    }
+
+    @Override
+    public ServiceDelegate createServiceDelegate(URL wsdlDocumentLocation,
+            QName serviceName, Class<? extends Service> serviceClass) {
+        return new StubServiceDelegate(wsdlDocumentLocation, serviceName);
+    }
+
+    @Override
+    public ServiceDelegate createServiceDelegate(URL wsdlDocumentLocation,
+            QName serviceName, Class<? extends Service> serviceClass, WebServiceFeature... features) {
+        return new StubServiceDelegate(wsdlDocumentLocation, serviceName);
+    }
+
+    @Override
+    public Endpoint createEndpoint(String bindingId, Object implementor) {
+        return new StubEndpoint(implementor);
+    }
+
+    @Override
+    public Endpoint createEndpoint(String bindingId, Object implementor, WebServiceFeature... features) {
+        return new StubEndpoint(implementor);
+    }
+
+    @Override
+    public Endpoint createAndPublishEndpoint(String address, Object implementor) {
+        StubEndpoint endpoint = new StubEndpoint(implementor);
+        endpoint.publish(address);
+        return endpoint;
+    }
+
+    @Override
+    public EndpointReference readEndpointReference(Source eprInfoset) {
+        return new W3CEndpointReference(eprInfoset);
+    }
+
+    @Override
+    public <T> T getPort(EndpointReference endpointReference,
+            Class<T> serviceEndpointInterface, WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public W3CEndpointReference createW3CEndpointReference(String address, QName serviceName, QName portName,
+            List<Element> metadata, String wsdlDocumentLocation, List<Element> referenceParameters) {
+        return createW3CEndpointReference(address, null, serviceName, portName,
+                metadata, wsdlDocumentLocation, referenceParameters, null, null);
+    }
+
+    @Override
+    public W3CEndpointReference createW3CEndpointReference(String address,
+            QName interfaceName, QName serviceName, QName portName,
+            List<Element> metadata, String wsdlDocumentLocation, List<Element> referenceParameters,
+            List<Element> elements, Map<QName, String> attributes) {
+        // only the address is honoured, which is all the benchmarks need
+        String epr = "<EndpointReference xmlns=\"http://www.w3.org/2005/08/addressing\"><Address>"
+                + address + "</Address></EndpointReference>";
+        return new W3CEndpointReference(new StreamSource(new StringReader(epr)));
+    }
+}
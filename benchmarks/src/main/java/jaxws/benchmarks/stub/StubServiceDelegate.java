@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jaxws.benchmarks.stub;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.EndpointReference;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.WebServiceFeature;
+import jakarta.xml.ws.handler.HandlerResolver;
+import jakarta.xml.ws.spi.ServiceDelegate;
+
+/**
+ * Service delegate which only keeps the state set on it.
+ */
+class StubServiceDelegate extends ServiceDelegate {
+
+    private final URL wsdlDocumentLocation;
+    private final QName serviceName;
+    private HandlerResolver handlerResolver;
+    private Executor executor;
+
+    StubServiceDelegate(URL wsdlDocumentLocation, QName serviceName) {
+        this.wsdlDocumentLocation = wsdlDocumentLocation;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public <T> T getPort(QName portName, Class<T> serviceEndpointInterface) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getPort(QName portName, Class<T> serviceEndpointInterface, WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getPort(EndpointReference endpointReference, Class<T> serviceEndpointInterface,
+            WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getPort(Class<T> serviceEndpointInterface) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getPort(Class<T> serviceEndpointInterface, WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addPort(QName portName, String bindingId, String endpointAddress) {
+    }
+
+    @Override
+    public <T> Dispatch<T> createDispatch(QName portName, Class<T> type, Service.Mode mode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Dispatch<T> createDispatch(QName portName, Class<T> type, Service.Mode mode,
+            WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Dispatch<T> createDispatch(EndpointReference endpointReference, Class<T> type,
+            Service.Mode mode, WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Dispatch<Object> createDispatch(QName portName, JAXBContext context, Service.Mode mode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Dispatch<Object> createDispatch(QName portName, JAXBContext context, Service.Mode mode,
+            WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Dispatch<Object> createDispatch(EndpointReference endpointReference, JAXBContext context,
+            Service.Mode mode, WebServiceFeature... features) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public QName getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public Iterator<QName> getPorts() {
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public URL getWSDLDocumentLocation() {
+        return wsdlDocumentLocation;
+    }
+
+    @Override
+    public HandlerResolver getHandlerResolver() {
+        return handlerResolver;
+    }
+
+    @Override
+    public void setHandlerResolver(HandlerResolver handlerResolver) {
+        this.handlerResolver = handlerResolver;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+}